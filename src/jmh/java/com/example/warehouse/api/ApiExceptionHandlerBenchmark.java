@@ -0,0 +1,64 @@
+package com.example.warehouse.api;
+
+import com.example.warehouse.exception.ItemNotFoundException;
+import com.example.warehouse.exception.VehicleNotFoundException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.sql.SQLException;
+
+/**
+ * Error responses built by {@link ApiExceptionHandler}. The catch-all handler prints the
+ * stack trace of every exception, so stderr is swallowed while the benchmark runs; the
+ * formatting cost still counts.
+ */
+@State(Scope.Benchmark)
+public class ApiExceptionHandlerBenchmark {
+
+    private final ApiExceptionHandler handler = new ApiExceptionHandler();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/items/42");
+
+    private ItemNotFoundException itemNotFound;
+    private VehicleNotFoundException vehicleNotFound;
+    private DataIntegrityViolationException dataIntegrityViolation;
+    private PrintStream originalErr;
+
+    @Setup
+    public void setUp() {
+        itemNotFound = new ItemNotFoundException("Item not found with ID: 42");
+        vehicleNotFound = new VehicleNotFoundException("Vehicle not found with ID: 42");
+        dataIntegrityViolation = new DataIntegrityViolationException("could not execute statement",
+                new SQLException("duplicate key value violates unique constraint \"items_serial_number_key\"", "23505"));
+
+        originalErr = System.err;
+        System.setErr(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.setErr(originalErr);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> notFoundEarlyInChain() {
+        return handler.handleOther(itemNotFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> notFoundLastInChain() {
+        return handler.handleOther(vehicleNotFound, request);
+    }
+
+    @Benchmark
+    public ResponseEntity<ApiError> dataIntegrityViolation() {
+        return handler.handleDataIntegrity(dataIntegrityViolation, request);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.warehouse.dto;
+
+import com.example.warehouse.enumeration.BorrowStatus;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.TransportStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Jackson round trips of the snake_case DTO records, with the mapper configured the way
+ * Spring Boot configures it (JSR-310 module, ISO dates). Readers and writers are prebuilt,
+ * as in the HTTP message converter.
+ */
+@State(Scope.Benchmark)
+public class DtoSerializationBenchmark {
+
+    private static final int PAGE_SIZE = 50;
+
+    private ObjectWriter itemWriter;
+    private ObjectReader itemReader;
+    private ObjectWriter borrowingWriter;
+    private ObjectReader borrowingReader;
+    private ObjectWriter transportationPageWriter;
+
+    private ItemDTO item;
+    private String itemJson;
+    private BorrowingDTO borrowing;
+    private String borrowingJson;
+    private List<TransportationDTO> transportationPage;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        itemWriter = objectMapper.writerFor(ItemDTO.class);
+        itemReader = objectMapper.readerFor(ItemDTO.class);
+        borrowingWriter = objectMapper.writerFor(BorrowingDTO.class);
+        borrowingReader = objectMapper.readerFor(BorrowingDTO.class);
+        transportationPageWriter = objectMapper.writerFor(
+                objectMapper.getTypeFactory().constructCollectionType(List.class, TransportationDTO.class));
+
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30);
+        item = new ItemDTO(1L, "Laptop Dell XPS", ItemType.ELECTRONICS, ItemCondition.GOOD,
+                "SN123456", "15 inch, 32 GB", now);
+        borrowing = new BorrowingDTO(6L, 1L, 2L, 1, now, now.plusDays(7), null, BorrowStatus.ACTIVE, "Lab work");
+        transportationPage = new ArrayList<>(PAGE_SIZE);
+        for (long i = 0; i < PAGE_SIZE; i++) {
+            transportationPage.add(new TransportationDTO(i, i, 3L, 2L, 4L, 5L, 1, TransportStatus.PLANNED,
+                    now.plusHours(i), null, now.plusHours(i + 4), null, now));
+        }
+
+        itemJson = itemWriter.writeValueAsString(item);
+        borrowingJson = borrowingWriter.writeValueAsString(borrowing);
+    }
+
+    @Benchmark
+    public String writeItem() throws JsonProcessingException {
+        return itemWriter.writeValueAsString(item);
+    }
+
+    @Benchmark
+    public ItemDTO readItem() throws JsonProcessingException {
+        return itemReader.readValue(itemJson);
+    }
+
+    @Benchmark
+    public String writeBorrowing() throws JsonProcessingException {
+        return borrowingWriter.writeValueAsString(borrowing);
+    }
+
+    @Benchmark
+    public BorrowingDTO readBorrowing() throws JsonProcessingException {
+        return borrowingReader.readValue(borrowingJson);
+    }
+
+    @Benchmark
+    public byte[] writeTransportationPage() throws JsonProcessingException {
+        return transportationPageWriter.writeValueAsBytes(transportationPage);
+    }
+}
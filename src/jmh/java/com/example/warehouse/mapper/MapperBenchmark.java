@@ -0,0 +1,119 @@
+package com.example.warehouse.mapper;
+
+import com.example.warehouse.dto.BorrowingDTO;
+import com.example.warehouse.dto.ItemDTO;
+import com.example.warehouse.dto.TransportationDTO;
+import com.example.warehouse.entity.Borrowing;
+import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.Storage;
+import com.example.warehouse.entity.Transportation;
+import com.example.warehouse.entity.User;
+import com.example.warehouse.entity.Vehicle;
+import com.example.warehouse.enumeration.BorrowStatus;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.TransportStatus;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+@State(Scope.Benchmark)
+public class MapperBenchmark {
+
+    private final ItemMapper itemMapper = Mappers.getMapper(ItemMapper.class);
+    private final BorrowingMapper borrowingMapper = Mappers.getMapper(BorrowingMapper.class);
+    private final TransportationMapper transportationMapper = Mappers.getMapper(TransportationMapper.class);
+    private final VehicleMapper vehicleMapper = Mappers.getMapper(VehicleMapper.class);
+
+    private Item item;
+    private ItemDTO itemDTO;
+    private Borrowing borrowing;
+    private BorrowingDTO borrowingDTO;
+    private Transportation transportation;
+    private TransportationDTO transportationDTO;
+    private Vehicle vehicle;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 15, 10, 30);
+        item = Item.builder()
+                .id(1L)
+                .name("Laptop Dell XPS")
+                .type(ItemType.ELECTRONICS)
+                .condition(ItemCondition.GOOD)
+                .serialNumber("SN123456")
+                .description("15 inch, 32 GB")
+                .createdAt(now)
+                .build();
+        User user = User.builder().id(2L).build();
+        vehicle = Vehicle.builder().id(3L).brand("Ford").model("Transit").licensePlate("ABC123").year(2024).capacity(1000).build();
+        Storage from = Storage.builder().id(4L).build();
+        Storage to = Storage.builder().id(5L).build();
+
+        borrowing = Borrowing.builder()
+                .id(6L)
+                .item(item)
+                .user(user)
+                .quantity(1)
+                .borrowDate(now)
+                .expectedReturnDate(now.plusDays(7))
+                .status(BorrowStatus.ACTIVE)
+                .purpose("Lab work")
+                .build();
+        transportation = Transportation.builder()
+                .id(7L)
+                .item(item)
+                .vehicle(vehicle)
+                .driver(user)
+                .fromStorage(from)
+                .toStorage(to)
+                .status(TransportStatus.PLANNED)
+                .scheduledDeparture(now.plusHours(1))
+                .scheduledArrival(now.plusHours(5))
+                .createdAt(now)
+                .build();
+
+        itemDTO = itemMapper.toDTO(item);
+        borrowingDTO = borrowingMapper.toDTO(borrowing);
+        transportationDTO = transportationMapper.toDTO(transportation);
+    }
+
+    @Benchmark
+    public ItemDTO itemToDTO() {
+        return itemMapper.toDTO(item);
+    }
+
+    @Benchmark
+    public Item itemToEntity() {
+        return itemMapper.toEntity(itemDTO);
+    }
+
+    @Benchmark
+    public BorrowingDTO borrowingToDTO() {
+        return borrowingMapper.toDTO(borrowing);
+    }
+
+    @Benchmark
+    public Borrowing borrowingToEntity() {
+        return borrowingMapper.toEntity(borrowingDTO);
+    }
+
+    @Benchmark
+    public TransportationDTO transportationToDTO() {
+        return transportationMapper.toDTO(transportation);
+    }
+
+    @Benchmark
+    public Transportation transportationToEntity() {
+        return transportationMapper.toEntity(transportationDTO);
+    }
+
+    @Benchmark
+    public Object vehicleToDTO() {
+        return vehicleMapper.toDTO(vehicle);
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.entity.Borrowing;
+import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.User;
+import com.example.warehouse.enumeration.BorrowStatus;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cost of turning the borrowing list filter into a criteria predicate, as findPage does,
+ * from no filters (all unrestricted) to every filter set. The criteria builder comes from a
+ * session factory booted without a database; rendering and running the SQL is left to the
+ * macro suite.
+ */
+@State(Scope.Benchmark)
+public class BorrowingSpecificationBenchmark {
+
+    private final LocalDateTime from = LocalDateTime.of(2025, 1, 1, 0, 0);
+    private final LocalDateTime to = LocalDateTime.of(2025, 2, 1, 0, 0);
+
+    private SessionFactory sessionFactory;
+    private CriteriaBuilder cb;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Borrowing.class)
+                .addAnnotatedClass(Item.class)
+                .addAnnotatedClass(User.class)
+                .setProperty(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+                .setProperty(AvailableSettings.ALLOW_METADATA_ON_BOOT, "false")
+                .setProperty(AvailableSettings.JAKARTA_VALIDATION_MODE, "none")
+                .buildSessionFactory();
+        cb = sessionFactory.getCriteriaBuilder();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    public void noFilters(Blackhole blackhole) {
+        toPredicate(BorrowingServiceImpl.filter(null, null, null, null, null), blackhole);
+    }
+
+    @Benchmark
+    public void statusAndUser(Blackhole blackhole) {
+        toPredicate(BorrowingServiceImpl.filter(BorrowStatus.ACTIVE, 42L, null, null, null), blackhole);
+    }
+
+    @Benchmark
+    public void allFilters(Blackhole blackhole) {
+        toPredicate(BorrowingServiceImpl.filter(BorrowStatus.ACTIVE, 42L, 7L, from, to), blackhole);
+    }
+
+    private void toPredicate(Specification<Borrowing> specification, Blackhole blackhole) {
+        CriteriaQuery<Borrowing> query = cb.createQuery(Borrowing.class);
+        Root<Borrowing> root = query.from(Borrowing.class);
+        blackhole.consume(specification.toPredicate(root, query, cb));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.warehouse.benchmark;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-endpoint latency histograms (microsecond resolution, up to one minute) and error
+ * counts. Rendered both as a console table and as JSON for diffing between runs.
+ */
+public class LatencyReport {
+
+    private static final long MAX_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+    private final Map<String, ConcurrentHistogram> histograms = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public void record(String endpoint, long elapsedNanos, boolean success) {
+        histograms.computeIfAbsent(endpoint, key -> new ConcurrentHistogram(MAX_TRACKABLE_MICROS, 3))
+                .recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), MAX_TRACKABLE_MICROS));
+        if (!success) {
+            errors.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+        }
+    }
+
+    public String toTable(Duration elapsed) {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format(Locale.ROOT, "%-40s %10s %10s %10s %10s %10s %8s%n",
+                "endpoint", "requests", "req/s", "p50 ms", "p99 ms", "p999 ms", "errors"));
+        histograms.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(entry -> {
+            Histogram histogram = entry.getValue();
+            out.append(String.format(Locale.ROOT, "%-40s %10d %10.1f %10.2f %10.2f %10.2f %8d%n",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    throughput(histogram, elapsed),
+                    millis(histogram, 50.0),
+                    millis(histogram, 99.0),
+                    millis(histogram, 99.9),
+                    errorCount(entry.getKey())));
+        });
+        return out.toString();
+    }
+
+    public String toJson(Duration elapsed) {
+        StringBuilder out = new StringBuilder("{\n  \"elapsed_seconds\": ").append(elapsed.toSeconds())
+                .append(",\n  \"endpoints\": [");
+        String separator = "\n";
+        for (Map.Entry<String, ConcurrentHistogram> entry : histograms.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey()).toList()) {
+            Histogram histogram = entry.getValue();
+            out.append(separator).append(String.format(Locale.ROOT,
+                    "    {\"endpoint\": \"%s\", \"requests\": %d, \"throughput\": %.2f, " +
+                            "\"p50_ms\": %.3f, \"p99_ms\": %.3f, \"p999_ms\": %.3f, \"max_ms\": %.3f, \"errors\": %d}",
+                    entry.getKey(),
+                    histogram.getTotalCount(),
+                    throughput(histogram, elapsed),
+                    millis(histogram, 50.0),
+                    millis(histogram, 99.0),
+                    millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0,
+                    errorCount(entry.getKey())));
+            separator = ",\n";
+        }
+        return out.append("\n  ]\n}\n").toString();
+    }
+
+    public void write(Path file, Duration elapsed) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, toJson(elapsed));
+    }
+
+    public void reset() {
+        histograms.clear();
+        errors.clear();
+    }
+
+    private long errorCount(String endpoint) {
+        LongAdder count = errors.get(endpoint);
+        return count != null ? count.sum() : 0;
+    }
+
+    private static double throughput(Histogram histogram, Duration elapsed) {
+        return histogram.getTotalCount() / Math.max(1.0, elapsed.toMillis() / 1000.0);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.warehouse.benchmark;
+
+import com.example.warehouse.dataset.DatasetScale;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Dataset scale and load shape, read from {@code macro.*} system properties so the Gradle
+ * task can forward {@code -Pmacro.scale=...} and friends.
+ */
+public record MacroBenchmarkSettings(
+        DatasetScale scale,
+        long seed,
+        int threads,
+        int listThreads,
+        Duration warmup,
+        Duration duration,
+        int batchInsertRows,
+        Path reportDir
+) {
+
+    public static MacroBenchmarkSettings fromSystemProperties() {
+        return new MacroBenchmarkSettings(
+                DatasetScale.parse(System.getProperty("macro.scale", "1M")),
+                intProperty("macro.seed", 42),
+                intProperty("macro.threads", 16),
+                intProperty("macro.listThreads", 512),
+                Duration.ofSeconds(intProperty("macro.warmupSeconds", 30)),
+                Duration.ofSeconds(intProperty("macro.durationSeconds", 120)),
+                intProperty("macro.batchInsertRows", 200_000),
+                Path.of(System.getProperty("macro.reportDir", "build/reports/macro-benchmark")));
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty(name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+}
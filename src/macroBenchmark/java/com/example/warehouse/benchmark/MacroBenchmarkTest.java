@@ -0,0 +1,267 @@
+package com.example.warehouse.benchmark;
+
+import com.example.warehouse.dataset.DatasetGenerator;
+import com.example.warehouse.entity.Borrowing;
+import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.Keeping;
+import com.example.warehouse.entity.Storage;
+import com.example.warehouse.entity.User;
+import com.example.warehouse.enumeration.BorrowStatus;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.repository.BorrowingRepository;
+import com.example.warehouse.repository.ItemRepository;
+import com.example.warehouse.repository.KeepingRepository;
+import com.example.warehouse.repository.StorageRepository;
+import com.example.warehouse.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Slf4j
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "warehouse.jobs.enabled=false",
+        "logging.level.com.zaxxer.hikari=INFO",
+        "logging.level.org.springframework.jdbc=INFO",
+        "spring.datasource.hikari.maximum-pool-size=20"
+})
+class MacroBenchmarkTest {
+
+    private static final int INSERT_CHUNK = 1000;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("warehouse")
+            .withUsername("bench")
+            .withPassword("bench")
+            .withSharedMemorySize(1024L * 1024 * 1024)
+            .withCommand("postgres", "-c", "max_connections=200", "-c", "shared_buffers=512MB",
+                    "-c", "work_mem=16MB", "-c", "maintenance_work_mem=256MB");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private KeepingRepository keepingRepository;
+
+    @Autowired
+    private BorrowingRepository borrowingRepository;
+
+    @Autowired
+    private StorageRepository storageRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private final MacroBenchmarkSettings settings = MacroBenchmarkSettings.fromSystemProperties();
+
+    @BeforeAll
+    void seed() throws SQLException {
+        log.info("Seeding dataset: {}", settings);
+        try (Connection connection = dataSource.getConnection()) {
+            new DatasetGenerator(settings.seed(), LocalDate.now().atStartOfDay()).generate(connection, settings.scale());
+        }
+    }
+
+    /**
+     * Inserts the same number of items, keepings and borrowings twice: once row by row with
+     * one round trip and a returned id per row, the way Hibernate inserts IDENTITY entities,
+     * and once through JPA saveAll with pooled sequence ids and JDBC batching.
+     */
+    @Test
+    @Order(1)
+    void batchInsertThroughput() throws IOException {
+        int rows = settings.batchInsertRows();
+        long storageId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM storages", Long.class);
+        long userId = jdbcTemplate.queryForObject("SELECT MIN(id) FROM users", Long.class);
+        List<InsertRun> runs = new ArrayList<>();
+
+        long[] baselineItems = new long[rows];
+        runs.add(measure("items", "row-by-row", rows, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                baselineItems[i] = jdbcTemplate.queryForObject(
+                        "INSERT INTO items (name, type, condition, serial_number, created_at) " +
+                                "VALUES (?, ?, ?, ?, now()) RETURNING id",
+                        Long.class, "Row item " + i, ItemType.MATERIALS.name(), ItemCondition.NEW.name(), "RI-" + i);
+            }
+        }));
+        long[] batchedItems = new long[rows];
+        runs.add(measure("items", "batched", rows, (from, to) -> {
+            List<Item> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(Item.builder()
+                        .name("Batch item " + i)
+                        .type(ItemType.MATERIALS)
+                        .condition(ItemCondition.NEW)
+                        .serialNumber("BI-" + i)
+                        .build());
+            }
+            List<Item> saved = itemRepository.saveAll(chunk);
+            for (int i = from; i < to; i++) {
+                batchedItems[i] = saved.get(i - from).getId();
+            }
+        }));
+
+        runs.add(measure("keepings", "row-by-row", rows, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                jdbcTemplate.queryForObject(
+                        "INSERT INTO keeping (storage_id, item_id, quantity, shelf, last_updated) " +
+                                "VALUES (?, ?, 1, ?, now()) RETURNING id",
+                        Long.class, storageId, baselineItems[i], "R-" + (i % 100));
+            }
+        }));
+        runs.add(measure("keepings", "batched", rows, (from, to) -> {
+            Storage storage = storageRepository.getReferenceById(storageId);
+            List<Keeping> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(Keeping.builder()
+                        .storage(storage)
+                        .item(itemRepository.getReferenceById(batchedItems[i]))
+                        .quantity(1)
+                        .shelf("B-" + (i % 100))
+                        .build());
+            }
+            keepingRepository.saveAll(chunk);
+        }));
+
+        LocalDateTime borrowedAt = LocalDateTime.now();
+        runs.add(measure("borrowings", "row-by-row", rows, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                jdbcTemplate.queryForObject(
+                        "INSERT INTO borrowings (item_id, user_id, quantity, borrow_date, expected_return_date, status) " +
+                                "VALUES (?, ?, 1, ?, ?, ?) RETURNING id",
+                        Long.class, baselineItems[i], userId, borrowedAt, borrowedAt.plusDays(7), BorrowStatus.ACTIVE.name());
+            }
+        }));
+        runs.add(measure("borrowings", "batched", rows, (from, to) -> {
+            User user = userRepository.getReferenceById(userId);
+            List<Borrowing> chunk = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                chunk.add(Borrowing.builder()
+                        .item(itemRepository.getReferenceById(batchedItems[i]))
+                        .user(user)
+                        .quantity(1)
+                        .borrowDate(borrowedAt)
+                        .expectedReturnDate(borrowedAt.plusDays(7))
+                        .status(BorrowStatus.ACTIVE)
+                        .build());
+            }
+            borrowingRepository.saveAll(chunk);
+        }));
+
+        Files.createDirectories(settings.reportDir());
+        Files.writeString(settings.reportDir().resolve("batch-insert.json"), runs.stream()
+                .map(InsertRun::toJson)
+                .collect(Collectors.joining(",\n  ", "[\n  ", "\n]\n")));
+        runs.forEach(run -> assertTrue(run.rowsPerSecond() > 0));
+    }
+
+    private InsertRun measure(String entity, String mode, int rows, ChunkInsert insert) {
+        long started = System.nanoTime();
+        for (int offset = 0; offset < rows; offset += INSERT_CHUNK) {
+            int from = offset;
+            int to = Math.min(offset + INSERT_CHUNK, rows);
+            transactionTemplate.executeWithoutResult(tx -> insert.insert(from, to));
+        }
+        InsertRun run = new InsertRun(entity, mode, rows, (System.nanoTime() - started) / 1_000_000_000.0);
+        log.info("Inserted {} {} {} in {} s ({} rows/s)", rows, entity, mode,
+                String.format(Locale.ROOT, "%.1f", run.seconds()),
+                String.format(Locale.ROOT, "%.0f", run.rowsPerSecond()));
+        return run;
+    }
+
+    @Test
+    @Order(2)
+    void mixedWorkload() throws Exception {
+        MixedWorkload workload = new MixedWorkload("http://localhost:" + port,
+                ids("SELECT id FROM items WHERE serial_number LIKE 'SN-%'"),
+                ids("SELECT id FROM users"),
+                ids("SELECT id FROM storages"));
+        LatencyReport report = new LatencyReport();
+
+        log.info("Warming up for {} s with {} threads", settings.warmup().toSeconds(), settings.threads());
+        workload.run(settings.threads(), settings.warmup(), report);
+        report.reset();
+
+        log.info("Measuring for {} s with {} threads", settings.duration().toSeconds(), settings.threads());
+        long started = System.nanoTime();
+        workload.run(settings.threads(), settings.duration(), report);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+        log.info("Mixed workload results:\n{}", report.toTable(elapsed));
+        report.write(settings.reportDir().resolve("results.json"), elapsed);
+    }
+
+    private long[] ids(String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+
+    @FunctionalInterface
+    private interface ChunkInsert {
+        void insert(int from, int to);
+    }
+
+    private record InsertRun(String entity, String mode, int rows, double seconds) {
+
+        double rowsPerSecond() {
+            return rows / seconds;
+        }
+
+        String toJson() {
+            return String.format(Locale.ROOT,
+                    "{\"entity\": \"%s\", \"mode\": \"%s\", \"rows\": %d, \"chunk\": %d, \"seconds\": %.3f, \"rows_per_second\": %.1f}",
+                    entity, mode, rows, INSERT_CHUNK, seconds, rowsPerSecond());
+        }
+    }
+}
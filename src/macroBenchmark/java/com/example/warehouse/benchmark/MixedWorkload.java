@@ -0,0 +1,188 @@
+package com.example.warehouse.benchmark;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop mixed workload: every worker thread picks a weighted operation, issues it and
+ * records its latency, until the deadline. The mix leans on list and lookup reads, with a
+ * write share for item and borrowing creation.
+ */
+public class MixedWorkload {
+
+    private static final DateTimeFormatter ISO = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final long[] itemIds;
+    private final long[] userIds;
+    private final long[] storageIds;
+    private final AtomicLong serial = new AtomicLong();
+    private final List<Operation> operations;
+    private final int totalWeight;
+
+    public MixedWorkload(String baseUrl, long[] itemIds, long[] userIds, long[] storageIds) {
+        this(baseUrl, itemIds, userIds, storageIds, false);
+    }
+
+    private MixedWorkload(String baseUrl, long[] itemIds, long[] userIds, long[] storageIds, boolean listsOnly) {
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.baseUrl = baseUrl;
+        this.itemIds = itemIds;
+        this.userIds = userIds;
+        this.storageIds = storageIds;
+        this.operations = List.of(
+                new Operation("GET /items/{id}", 20, false, this::getItem),
+                new Operation("GET /items?page", 10, true, this::listItemsOffset),
+                new Operation("GET /items?cursor", 10, true, this::listItemsKeyset),
+                new Operation("GET /items/availability", 5, true, this::itemAvailability),
+                new Operation("GET /keeping?storageId", 10, true, this::listKeepingByStorage),
+                new Operation("GET /borrowings?userId", 10, true, this::listBorrowingsByUser),
+                new Operation("GET /borrowings/overdue", 5, true, this::listOverdueBorrowings),
+                new Operation("GET /transportations?status", 10, true, this::listTransportations),
+                new Operation("POST /items", 12, false, this::createItem),
+                new Operation("POST /borrowings", 8, false, this::createBorrowing))
+                .stream()
+                .filter(operation -> !listsOnly || operation.list())
+                .toList();
+        this.totalWeight = operations.stream().mapToInt(Operation::weight).sum();
+    }
+
+    /**
+     * Only the list endpoints, with their usual relative weights. These hold a connection for
+     * the longest, so they show best how the server behaves once requests outnumber the pool.
+     */
+    public static MixedWorkload listEndpoints(String baseUrl, long[] itemIds, long[] userIds, long[] storageIds) {
+        return new MixedWorkload(baseUrl, itemIds, userIds, storageIds, true);
+    }
+
+    public void run(int threads, Duration duration, LatencyReport report) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            workers.submit(() -> {
+                while (System.nanoTime() < deadline) {
+                    Operation operation = pick();
+                    long started = System.nanoTime();
+                    boolean success;
+                    try {
+                        success = operation.call().execute();
+                    } catch (Exception e) {
+                        success = false;
+                    }
+                    report.record(operation.name(), System.nanoTime() - started, success);
+                }
+            });
+        }
+        workers.shutdown();
+        workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS);
+    }
+
+    private Operation pick() {
+        int roll = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Operation operation : operations) {
+            roll -= operation.weight();
+            if (roll < 0) {
+                return operation;
+            }
+        }
+        return operations.get(0);
+    }
+
+    private boolean getItem() throws Exception {
+        return get("/api/v1/items/" + randomOf(itemIds)).statusCode() == 200;
+    }
+
+    private boolean listItemsOffset() throws Exception {
+        int page = ThreadLocalRandom.current().nextInt(500);
+        return get("/api/v1/items?size=20&type=TOOLS&page=" + page).statusCode() == 200;
+    }
+
+    private boolean listItemsKeyset() throws Exception {
+        HttpResponse<String> first = get("/api/v1/items?size=20&type=TOOLS&cursor=");
+        Optional<String> next = first.headers().firstValue("X-Next-Cursor");
+        if (first.statusCode() != 200 || next.isEmpty()) {
+            return first.statusCode() == 200;
+        }
+        return get("/api/v1/items?size=20&type=TOOLS&cursor=" + next.get()).statusCode() == 200;
+    }
+
+    private boolean itemAvailability() throws Exception {
+        LocalDateTime from = LocalDateTime.now().plusDays(ThreadLocalRandom.current().nextInt(30));
+        return get("/api/v1/items/availability?from=" + from.format(ISO) + "&to=" + from.plusDays(3).format(ISO)
+                + "&storageId=" + randomOf(storageIds)).statusCode() == 200;
+    }
+
+    private boolean listKeepingByStorage() throws Exception {
+        return get("/api/v1/keeping?size=20&storageId=" + randomOf(storageIds)).statusCode() == 200;
+    }
+
+    private boolean listBorrowingsByUser() throws Exception {
+        return get("/api/v1/borrowings?size=20&userId=" + randomOf(userIds)).statusCode() == 200;
+    }
+
+    private boolean listOverdueBorrowings() throws Exception {
+        return get("/api/v1/borrowings/overdue?size=20").statusCode() == 200;
+    }
+
+    private boolean listTransportations() throws Exception {
+        return get("/api/v1/transportations?size=20&status=PLANNED").statusCode() == 200;
+    }
+
+    private boolean createItem() throws Exception {
+        long n = serial.incrementAndGet();
+        String body = "{\"name\":\"Bench item " + n + "\",\"type\":\"TOOLS\",\"condition\":\"NEW\","
+                + "\"serial_number\":\"BW-" + System.nanoTime() + "-" + n + "\",\"description\":\"Created under load\"}";
+        return post("/api/v1/items", body).statusCode() == 201;
+    }
+
+    private boolean createBorrowing() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        String body = "{\"item_id\":" + randomOf(itemIds) + ",\"user_id\":" + randomOf(userIds)
+                + ",\"quantity\":1,\"borrow_date\":\"" + now.format(ISO) + "\",\"expected_return_date\":\""
+                + now.plusDays(7).format(ISO) + "\",\"purpose\":\"Bench\"}";
+        int status = post("/api/v1/borrowings", body).statusCode();
+        // Business-rule rejections (limits, item state) are expected outcomes, not failures.
+        return status < 500;
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static long randomOf(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+
+    private record Operation(String name, int weight, boolean list, Call call) {
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        boolean execute() throws Exception;
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.warehouse.benchmark;
+
+import com.example.warehouse.WarehouseApplication;
+import com.example.warehouse.dataset.DatasetGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.time.LocalDate;
+import javax.sql.DataSource;
+
+/**
+ * Runs the list-endpoint workload against the same dataset twice: once on Tomcat's platform
+ * thread pool and once with virtual threads and the connection permit guard. Client
+ * concurrency ({@code macro.listThreads}) is deliberately far above the Hikari pool so the
+ * two modes differ in how they queue, not in how fast a single query is. The virtual run
+ * needs Java 21 ({@code -PjavaVersion=21}) and is skipped otherwise.
+ */
+@Slf4j
+@Testcontainers
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ThreadingModeBenchmarkTest {
+
+    private static final int POOL_SIZE = 20;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("warehouse")
+            .withUsername("bench")
+            .withPassword("bench")
+            .withSharedMemorySize(1024L * 1024 * 1024)
+            .withCommand("postgres", "-c", "max_connections=200", "-c", "shared_buffers=512MB",
+                    "-c", "work_mem=16MB");
+
+    private final MacroBenchmarkSettings settings = MacroBenchmarkSettings.fromSystemProperties();
+
+    private long[] itemIds;
+    private long[] userIds;
+    private long[] storageIds;
+
+    @BeforeAll
+    void seed() throws Exception {
+        // The first context runs the Liquibase migrations the generator needs.
+        try (ConfigurableApplicationContext context = start(false)) {
+            log.info("Seeding dataset: {}", settings);
+            try (Connection connection = context.getBean(DataSource.class).getConnection()) {
+                new DatasetGenerator(settings.seed(), LocalDate.now().atStartOfDay())
+                        .generate(connection, settings.scale());
+            }
+            JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+            itemIds = ids(jdbcTemplate, "SELECT id FROM items WHERE serial_number LIKE 'SN-%'");
+            userIds = ids(jdbcTemplate, "SELECT id FROM users");
+            storageIds = ids(jdbcTemplate, "SELECT id FROM storages");
+        }
+    }
+
+    @Test
+    @Order(1)
+    void platformThreads() throws Exception {
+        measure(false, "results-platform.json");
+    }
+
+    @Test
+    @Order(2)
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void virtualThreads() throws Exception {
+        measure(true, "results-virtual.json");
+    }
+
+    private void measure(boolean virtual, String reportFile) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = start(virtual)) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            MixedWorkload workload = MixedWorkload.listEndpoints("http://localhost:" + port, itemIds, userIds, storageIds);
+            LatencyReport report = new LatencyReport();
+
+            log.info("[{}] Warming up for {} s with {} clients", mode, settings.warmup().toSeconds(), settings.listThreads());
+            workload.run(settings.listThreads(), settings.warmup(), report);
+            report.reset();
+
+            log.info("[{}] Measuring for {} s with {} clients", mode, settings.duration().toSeconds(), settings.listThreads());
+            long started = System.nanoTime();
+            workload.run(settings.listThreads(), settings.duration(), report);
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - started);
+
+            log.info("[{}] List endpoint results:\n{}", mode, report.toTable(elapsed));
+            report.write(settings.reportDir().resolve(reportFile), elapsed);
+        }
+    }
+
+    private ConfigurableApplicationContext start(boolean virtual) {
+        return new SpringApplicationBuilder(WarehouseApplication.class)
+                .properties(
+                        "server.port=0",
+                        "warehouse.jobs.enabled=false",
+                        "logging.level.com.zaxxer.hikari=INFO",
+                        "logging.level.org.springframework.jdbc=INFO",
+                        "spring.datasource.url=" + postgres.getJdbcUrl(),
+                        "spring.datasource.username=" + postgres.getUsername(),
+                        "spring.datasource.password=" + postgres.getPassword(),
+                        "spring.datasource.hikari.maximum-pool-size=" + POOL_SIZE,
+                        "spring.threads.virtual.enabled=" + virtual)
+                .run();
+    }
+
+    private static long[] ids(JdbcTemplate jdbcTemplate, String sql) {
+        return jdbcTemplate.queryForList(sql, Long.class).stream().mapToLong(Long::longValue).toArray();
+    }
+}
@@ -9,6 +9,7 @@ import com.example.warehouse.exception.DuplicateLicensePlateException;
 import com.example.warehouse.exception.DuplicateSerialNumberException;
 import com.example.warehouse.exception.DuplicateStorageException;
 import com.example.warehouse.exception.DuplicateUserStorageAccessException;
+import com.example.warehouse.exception.InsufficientStockException;
 import com.example.warehouse.exception.ItemMaintenanceNotFoundException;
 import com.example.warehouse.exception.ItemNotFoundException;
 import com.example.warehouse.exception.KeepingNotFoundException;
@@ -125,6 +126,9 @@ public class ApiExceptionHandler {
         } else if (ex instanceof DuplicateUserStorageAccessException) {
             status = HttpStatus.CONFLICT;
             errorCode = ErrorCode.DUPLICATE_USER_STORAGE_ACCESS;
+        } else if (ex instanceof InsufficientStockException) {
+            status = HttpStatus.CONFLICT;
+            errorCode = ErrorCode.INSUFFICIENT_STOCK;
         } else if (ex instanceof ItemMaintenanceNotFoundException) {
             status = HttpStatus.NOT_FOUND;
             errorCode = ErrorCode.ITEM_MAINTENANCE_NOT_FOUND;
@@ -0,0 +1,21 @@
+package com.example.warehouse.api;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler whose response depends only on the rows of the listed tables, so
+ * {@link ConditionalGetInterceptor} can answer conditional requests from the tables' change
+ * counters without running the handler.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ConditionalGet {
+
+    /**
+     * Tables the response is read from.
+     */
+    String[] value();
+}
@@ -8,6 +8,7 @@ public enum ErrorCode {
     DATA_INTEGRITY_VIOLATION,
     VALIDATION_ERROR,
     INTERNAL_ERROR,
+    SERVICE_UNAVAILABLE,
     FORBIDDEN,
     BORROWING_NOT_FOUND,
     BUSINESS_RULE_VIOLATION,
@@ -17,6 +18,7 @@ public enum ErrorCode {
     DUPLICATE_SERIAL_NUMBER,
     DUPLICATE_STORAGE,
     DUPLICATE_USER_STORAGE_ACCESS,
+    INSUFFICIENT_STOCK,
     ITEM_MAINTENANCE_NOT_FOUND,
     ITEM_NOT_FOUND,
     KEEPING_NOT_FOUND,
@@ -0,0 +1,121 @@
+package com.example.warehouse.api;
+
+import com.example.warehouse.exception.ValidationException;
+import org.springframework.data.domain.KeysetScrollPosition;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Opaque cursor for keyset pagination of list endpoints. The cursor carries the values of
+ * the sort keys (and id) of the last row returned, so the next page is a seek on an index
+ * instead of an OFFSET scan. A blank cursor starts from the first row.
+ */
+public final class KeysetCursor {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    public static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
+    private static final char ENTRY_SEPARATOR = '\n';
+    private static final char FIELD_SEPARATOR = '\t';
+
+    private KeysetCursor() {
+    }
+
+    public static ScrollPosition decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            Map<String, Object> keys = new LinkedHashMap<>();
+            for (String entry : raw.split(String.valueOf(ENTRY_SEPARATOR))) {
+                String[] parts = entry.split(String.valueOf(FIELD_SEPARATOR), 3);
+                keys.put(parts[0], parseValue(parts[1], URLDecoder.decode(parts[2], StandardCharsets.UTF_8)));
+            }
+            return ScrollPosition.forward(keys);
+        } catch (RuntimeException e) {
+            throw new ValidationException("Invalid cursor", e);
+        }
+    }
+
+    public static String encode(ScrollPosition position) {
+        if (!(position instanceof KeysetScrollPosition keyset) || keyset.isInitial()) {
+            return null;
+        }
+
+        StringBuilder raw = new StringBuilder();
+        for (Map.Entry<String, Object> key : keyset.getKeys().entrySet()) {
+            if (!raw.isEmpty()) {
+                raw.append(ENTRY_SEPARATOR);
+            }
+            raw.append(key.getKey()).append(FIELD_SEPARATOR)
+                    .append(typeOf(key.getValue())).append(FIELD_SEPARATOR)
+                    .append(URLEncoder.encode(String.valueOf(key.getValue()), StandardCharsets.UTF_8));
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Builds a list response for cursor mode: the page as body, the cursor of the next page
+     * (absent on the last page) and, only when it was asked for, the total count.
+     */
+    public static <T> ResponseEntity<List<T>> toResponse(Window<T> window, Long totalCount) {
+        var headers = new HttpHeaders();
+        if (window.hasNext() && !window.isEmpty()) {
+            headers.add(NEXT_CURSOR_HEADER, encode(window.positionAt(window.size() - 1)));
+        }
+        if (totalCount != null) {
+            headers.add(TOTAL_COUNT_HEADER, String.valueOf(totalCount));
+        }
+        return new ResponseEntity<>(window.getContent(), headers, HttpStatus.OK);
+    }
+
+    private static String typeOf(Object value) {
+        if (value == null) {
+            return "N";
+        } else if (value instanceof Long) {
+            return "L";
+        } else if (value instanceof Integer) {
+            return "I";
+        } else if (value instanceof Float) {
+            return "F";
+        } else if (value instanceof String) {
+            return "S";
+        } else if (value instanceof LocalDateTime) {
+            return "T";
+        } else if (value instanceof LocalDate) {
+            return "D";
+        } else if (value instanceof Boolean) {
+            return "B";
+        }
+        throw new IllegalStateException("Unsupported cursor key type: " + value.getClass().getName());
+    }
+
+    private static Object parseValue(String type, String value) {
+        return switch (type) {
+            case "N" -> null;
+            case "L" -> Long.valueOf(value);
+            case "I" -> Integer.valueOf(value);
+            case "F" -> Float.valueOf(value);
+            case "S" -> value;
+            case "T" -> LocalDateTime.parse(value);
+            case "D" -> LocalDate.parse(value);
+            case "B" -> Boolean.valueOf(value);
+            default -> throw new IllegalArgumentException("Unknown cursor key type: " + type);
+        };
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.warehouse.config;
+
+import com.example.warehouse.api.ConnectionPermitFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Active only with {@code spring.threads.virtual.enabled=true} on Java 21+, where Spring Boot
+ * already moves Tomcat and the application task executor onto virtual threads. Adds the
+ * request guard sized to the Hikari pool.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadsConfig {
+
+    @Bean
+    public FilterRegistrationBean<ConnectionPermitFilter> connectionPermitFilter(
+            DataSource dataSource,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${warehouse.concurrency.permits-per-connection:1}") int permitsPerConnection,
+            @Value("${warehouse.concurrency.acquire-timeout:5s}") Duration acquireTimeout) {
+        int poolSize = dataSource instanceof HikariDataSource hikari ? hikari.getMaximumPoolSize() : 10;
+        ConnectionPermitFilter filter = new ConnectionPermitFilter(poolSize * permitsPerConnection, acquireTimeout, objectMapper);
+
+        Gauge.builder("warehouse.connection.permits.available", filter, ConnectionPermitFilter::availablePermits)
+                .register(meterRegistry);
+        Gauge.builder("warehouse.connection.permits.waiting", filter, ConnectionPermitFilter::queueLength)
+                .register(meterRegistry);
+
+        FilterRegistrationBean<ConnectionPermitFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/*");
+        registration.setName("connectionPermitFilter");
+        return registration;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.warehouse.config;
+
+import com.example.warehouse.api.ConditionalGetInterceptor;
+import com.example.warehouse.repository.TableChangeRepository;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    private final TableChangeRepository tableChangeRepository;
+
+    public WebConfig(TableChangeRepository tableChangeRepository) {
+        this.tableChangeRepository = tableChangeRepository;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ConditionalGetInterceptor(tableChangeRepository)).addPathPatterns("/api/**");
+    }
+}
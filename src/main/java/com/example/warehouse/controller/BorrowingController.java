@@ -1,5 +1,7 @@
 package com.example.warehouse.controller;
 
+import com.example.warehouse.api.ConditionalGet;
+import com.example.warehouse.api.KeysetCursor;
 import com.example.warehouse.dto.BorrowingDTO;
 import com.example.warehouse.entity.Borrowing;
 import com.example.warehouse.enumeration.BorrowStatus;
@@ -44,6 +46,7 @@ public class BorrowingController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet("borrowings")
     @Operation(summary = "Get borrowing by id")
     public BorrowingDTO getById(@PathVariable Long id) {
         return mapper.toDTO(service.getById(id));
@@ -79,7 +82,8 @@ public class BorrowingController {
     }
 
     @GetMapping
-    @Operation(summary = "List borrowings with pagination and total count")
+    @ConditionalGet("borrowings")
+    @Operation(summary = "List borrowings with offset or keyset pagination")
     public ResponseEntity<List<BorrowingDTO>> list(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
@@ -87,8 +91,15 @@ public class BorrowingController {
             @RequestParam(required = false) Long userId,
             @RequestParam(required = false) Long itemId,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
-            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        if (cursor != null) {
+            var window = service.scroll(KeysetCursor.decode(cursor), size, status, userId, itemId, from, to).map(mapper::toDTO);
+            return KeysetCursor.toResponse(window, withCount ? service.count(status, userId, itemId, from, to) : null);
+        }
+
         var result = service.findPage(page, size, status, userId, itemId, from, to).map(mapper::toDTO);
         var headers = new HttpHeaders();
         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
@@ -96,11 +107,18 @@ public class BorrowingController {
     }
 
     @GetMapping("/overdue")
-    @Operation(summary = "List overdue borrowings with pagination and total count")
+    @Operation(summary = "List overdue borrowings with offset or keyset pagination")
     public ResponseEntity<List<BorrowingDTO>> overdue(
             @RequestParam(defaultValue = "0") @Min(0) int page,
-            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        if (cursor != null) {
+            var window = service.scrollOverdue(KeysetCursor.decode(cursor), size).map(mapper::toDTO);
+            return KeysetCursor.toResponse(window, withCount ? service.countOverdue() : null);
+        }
+
         var result = service.findOverdue(page, size).map(mapper::toDTO);
         var headers = new HttpHeaders();
         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
@@ -0,0 +1,37 @@
+package com.example.warehouse.controller;
+
+import com.example.warehouse.dto.StorageInventoryDTO;
+import com.example.warehouse.service.interfaces.InventoryService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+
+@Validated
+@RestController
+@RequestMapping("/api/v1/storages/{storageId}/inventory")
+@Tag(name = "Storages")
+@ConditionalOnBean(InventoryService.class)
+public class InventoryController {
+
+    private final InventoryService service;
+
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    public InventoryController(InventoryService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    @Operation(summary = "Quantities kept in the storage at a point in time (now when asOf is omitted)")
+    public StorageInventoryDTO getInventory(
+            @PathVariable Long storageId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf
+    ) {
+        return service.getInventory(storageId, asOf);
+    }
+}
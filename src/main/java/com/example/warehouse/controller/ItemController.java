@@ -1,5 +1,7 @@
 package com.example.warehouse.controller;
 
+import com.example.warehouse.api.ConditionalGet;
+import com.example.warehouse.api.KeysetCursor;
 import com.example.warehouse.dto.ItemDTO;
 import com.example.warehouse.entity.Item;
 import com.example.warehouse.enumeration.ItemCondition;
@@ -12,7 +14,9 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
@@ -48,6 +52,7 @@ public class ItemController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet("items")
     @Operation(summary = "Get item by id")
     public ItemDTO getById(@PathVariable Long id) {
         return mapper.toDTO(service.getById(id));
@@ -68,19 +73,39 @@ public class ItemController {
     }
 
     @GetMapping
-    @Operation(summary = "List items with pagination and total count")
+    @ConditionalGet("items")
+    @Operation(summary = "List items with offset or keyset pagination")
     public ResponseEntity<List<ItemDTO>> list(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
             @RequestParam(required = false) ItemType type,
-            @RequestParam(required = false) ItemCondition condition
+            @RequestParam(required = false) ItemCondition condition,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        if (cursor != null) {
+            var window = service.scroll(KeysetCursor.decode(cursor), size, type, condition).map(mapper::toDTO);
+            return KeysetCursor.toResponse(window, withCount ? service.count(type, condition) : null);
+        }
+
         var pageResult = service.findPage(page, size, type, condition).map(mapper::toDTO);
         var headers = new HttpHeaders();
         headers.add("X-Total-Count", String.valueOf(pageResult.getTotalElements()));
         return new ResponseEntity<>(pageResult.getContent(), headers, HttpStatus.OK);
     }
 
+    @GetMapping("/search")
+    @ConditionalGet("items")
+    @Operation(summary = "Ranked full-text search over name, description and serial number prefix")
+    public ResponseEntity<List<ItemDTO>> search(
+            @RequestParam @NotBlank @Size(max = 200) String q,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        var window = service.search(q, KeysetCursor.decode(cursor), size).map(mapper::toDTO);
+        return KeysetCursor.toResponse(window, null);
+    }
+
     @GetMapping("/availability")
     @Operation(summary = "Availability infinite feed")
     public List<ItemDTO> availability(
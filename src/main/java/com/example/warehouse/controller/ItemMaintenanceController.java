@@ -1,5 +1,7 @@
 package com.example.warehouse.controller;
 
+import com.example.warehouse.api.ConditionalGet;
+import com.example.warehouse.api.KeysetCursor;
 import com.example.warehouse.dto.ItemMaintenanceDTO;
 import com.example.warehouse.entity.ItemMaintenance;
 import com.example.warehouse.enumeration.MaintenanceStatus;
@@ -42,6 +44,7 @@ public class ItemMaintenanceController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet("item_maintenance")
     @Operation(summary = "Get maintenance by id")
     public ItemMaintenanceDTO getById(@PathVariable Long id) {
         return mapper.toDTO(service.getById(id));
@@ -64,13 +67,21 @@ public class ItemMaintenanceController {
     }
 
     @GetMapping
-    @Operation(summary = "List maintenance with pagination and total count")
+    @ConditionalGet("item_maintenance")
+    @Operation(summary = "List maintenance with offset or keyset pagination")
     public ResponseEntity<List<ItemMaintenanceDTO>> list(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
             @RequestParam(required = false) Long itemId,
-            @RequestParam(required = false) MaintenanceStatus status
+            @RequestParam(required = false) MaintenanceStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        if (cursor != null) {
+            var window = service.scroll(KeysetCursor.decode(cursor), size, itemId, status).map(mapper::toDTO);
+            return KeysetCursor.toResponse(window, withCount ? service.count(itemId, status) : null);
+        }
+
         var result = service.findPage(page, size, itemId, status).map(mapper::toDTO);
         var headers = new HttpHeaders();
         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
@@ -0,0 +1,54 @@
+package com.example.warehouse.controller;
+
+import com.example.warehouse.dto.JobRunDTO;
+import com.example.warehouse.enumeration.JobRunStatus;
+import com.example.warehouse.mapper.JobRunMapper;
+import com.example.warehouse.service.interfaces.JobRunService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Validated
+@RestController
+@RequestMapping("/api/v1/jobs")
+@Tag(name = "Jobs")
+@ConditionalOnBean(JobRunService.class)
+public class JobController {
+
+    private final JobRunService service;
+    private final JobRunMapper mapper;
+
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    public JobController(JobRunService service, JobRunMapper mapper) {
+        this.service = service;
+        this.mapper = mapper;
+    }
+
+    @GetMapping("/runs")
+    @Operation(summary = "List background job runs, most recent first")
+    public ResponseEntity<List<JobRunDTO>> listRuns(
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
+            @RequestParam(required = false) String jobName,
+            @RequestParam(required = false) JobRunStatus status,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        var result = service.findPage(page, size, jobName, status, from, to).map(mapper::toDTO);
+        var headers = new HttpHeaders();
+        headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
+        return new ResponseEntity<>(result.getContent(), headers, HttpStatus.OK);
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.warehouse.controller;
 
+import com.example.warehouse.api.ConditionalGet;
+import com.example.warehouse.api.KeysetCursor;
 import com.example.warehouse.dto.KeepingDTO;
 import com.example.warehouse.entity.Keeping;
 import com.example.warehouse.mapper.KeepingMapper;
@@ -34,13 +36,14 @@ public class KeepingController {
     }
 
     @PostMapping
-    @Operation(summary = "Create keeping link")
+    @Operation(summary = "Create keeping link, or add to its quantity when the item is already kept")
     public ResponseEntity<KeepingDTO> create(@Valid @RequestBody KeepingDTO dto) {
         Keeping keeping = service.create(mapper.toEntity(dto));
         return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toDTO(keeping));
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet("keeping")
     @Operation(summary = "Get keeping by id")
     public KeepingDTO getById(@PathVariable Long id) {
         return mapper.toDTO(service.getById(id));
@@ -61,13 +64,21 @@ public class KeepingController {
     }
 
     @GetMapping
-    @Operation(summary = "List keeping with pagination and total count")
+    @ConditionalGet("keeping")
+    @Operation(summary = "List keeping with offset or keyset pagination")
     public ResponseEntity<List<KeepingDTO>> list(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
             @RequestParam(required = false) Long storageId,
-            @RequestParam(required = false) Long itemId
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        if (cursor != null) {
+            var window = service.scroll(KeysetCursor.decode(cursor), size, storageId, itemId).map(mapper::toDTO);
+            return KeysetCursor.toResponse(window, withCount ? service.count(storageId, itemId) : null);
+        }
+
         var result = service.findPage(page, size, storageId, itemId).map(mapper::toDTO);
         var headers = new HttpHeaders();
         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
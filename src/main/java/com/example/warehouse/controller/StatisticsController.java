@@ -0,0 +1,29 @@
+package com.example.warehouse.controller;
+
+import com.example.warehouse.dto.StatisticsDTO;
+import com.example.warehouse.service.interfaces.StatisticsService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/stats")
+@Tag(name = "Statistics")
+@ConditionalOnBean(StatisticsService.class)
+public class StatisticsController {
+
+    private final StatisticsService service;
+
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    public StatisticsController(StatisticsService service) {
+        this.service = service;
+    }
+
+    @GetMapping
+    @Operation(summary = "Counts by role, borrow, transport, maintenance and vehicle status, and item type and condition")
+    public StatisticsDTO getStatistics() {
+        return service.getStatistics();
+    }
+}
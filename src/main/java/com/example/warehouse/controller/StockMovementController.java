@@ -0,0 +1,76 @@
+package com.example.warehouse.controller;
+
+import com.example.warehouse.dto.StockMovementDTO;
+import com.example.warehouse.dto.StockMovementRequestDTO;
+import com.example.warehouse.entity.StockMovement;
+import com.example.warehouse.enumeration.StockMovementType;
+import com.example.warehouse.exception.ValidationException;
+import com.example.warehouse.mapper.StockMovementMapper;
+import com.example.warehouse.service.interfaces.StockMovementService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Validated
+@RestController
+@RequestMapping("/api/v1/stock-movements")
+@Tag(name = "Stock movements")
+@ConditionalOnBean(StockMovementService.class)
+public class StockMovementController {
+
+    private final StockMovementService service;
+    private final StockMovementMapper mapper;
+
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    public StockMovementController(StockMovementService service, StockMovementMapper mapper) {
+        this.service = service;
+        this.mapper = mapper;
+    }
+
+    @PostMapping
+    @Operation(summary = "Apply a stock movement; a transfer returns its outgoing and incoming ledger rows")
+    public ResponseEntity<List<StockMovementDTO>> create(@Valid @RequestBody StockMovementRequestDTO dto) {
+        List<StockMovement> movements = switch (dto.type()) {
+            case RECEIVE -> List.of(service.receive(dto.storageId(), dto.itemId(), dto.quantity(), dto.reference(), dto.reason()));
+            case ISSUE -> List.of(service.issue(dto.storageId(), dto.itemId(), dto.quantity(), dto.reference(), dto.reason()));
+            case ADJUST -> List.of(service.adjust(dto.storageId(), dto.itemId(), dto.quantity(), dto.reference(), dto.reason()));
+            case TRANSFER -> {
+                if (dto.toStorageId() == null) {
+                    throw new ValidationException("Destination storage ID is required for a transfer");
+                }
+                yield service.transfer(dto.storageId(), dto.toStorageId(), dto.itemId(), dto.quantity(), dto.reference(), dto.reason());
+            }
+        };
+        return ResponseEntity.status(HttpStatus.CREATED).body(movements.stream().map(mapper::toDTO).toList());
+    }
+
+    @GetMapping
+    @Operation(summary = "List stock movements, most recent first")
+    public ResponseEntity<List<StockMovementDTO>> list(
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
+            @RequestParam(required = false) Long storageId,
+            @RequestParam(required = false) Long itemId,
+            @RequestParam(required = false) StockMovementType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to
+    ) {
+        var result = service.findPage(page, size, storageId, itemId, type, from, to).map(mapper::toDTO);
+        var headers = new HttpHeaders();
+        headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
+        return new ResponseEntity<>(result.getContent(), headers, HttpStatus.OK);
+    }
+}
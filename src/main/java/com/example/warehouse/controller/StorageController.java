@@ -1,5 +1,7 @@
 package com.example.warehouse.controller;
 
+import com.example.warehouse.api.ConditionalGet;
+import com.example.warehouse.api.KeysetCursor;
 import com.example.warehouse.dto.StorageDTO;
 import com.example.warehouse.entity.Storage;
 import com.example.warehouse.mapper.StorageMapper;
@@ -41,6 +43,7 @@ public class StorageController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet("storages")
     @Operation(summary = "Get storage by id")
     public StorageDTO getById(@PathVariable Long id) {
         return mapper.toDTO(service.getById(id));
@@ -61,12 +64,20 @@ public class StorageController {
     }
 
     @GetMapping
-    @Operation(summary = "List storages with pagination and total count")
+    @ConditionalGet("storages")
+    @Operation(summary = "List storages with offset or keyset pagination")
     public ResponseEntity<List<StorageDTO>> list(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
-            @RequestParam(required = false) String nameLike
+            @RequestParam(required = false) String nameLike,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        if (cursor != null) {
+            var window = service.scroll(KeysetCursor.decode(cursor), size, nameLike).map(mapper::toDTO);
+            return KeysetCursor.toResponse(window, withCount ? service.count(nameLike) : null);
+        }
+
         var result = service.findPage(page, size, nameLike).map(mapper::toDTO);
         var headers = new HttpHeaders();
         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
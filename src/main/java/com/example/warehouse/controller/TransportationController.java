@@ -1,5 +1,8 @@
 package com.example.warehouse.controller;
 
+import com.example.warehouse.api.ConditionalGet;
+import com.example.warehouse.api.KeysetCursor;
+import com.example.warehouse.dto.TransportationBatchResultDTO;
 import com.example.warehouse.dto.TransportationDTO;
 import com.example.warehouse.entity.Transportation;
 import com.example.warehouse.enumeration.TransportStatus;
@@ -41,7 +44,14 @@ public class TransportationController {
         return ResponseEntity.status(HttpStatus.CREATED).body(mapper.toDTO(transportation));
     }
 
+    @PostMapping("/batch")
+    @Operation(summary = "Create transportations in bulk, reporting the outcome of each row")
+    public List<TransportationBatchResultDTO> createBatch(@RequestBody List<TransportationDTO> dtos) {
+        return service.createBatch(dtos.stream().map(mapper::toEntity).toList());
+    }
+
     @GetMapping("/{id}")
+    @ConditionalGet("transportations")
     @Operation(summary = "Get transportation by id")
     public TransportationDTO getById(@PathVariable Long id) {
         return mapper.toDTO(service.getById(id));
@@ -62,15 +72,23 @@ public class TransportationController {
     }
 
     @GetMapping
-    @Operation(summary = "List transportations with pagination and total count")
+    @ConditionalGet("transportations")
+    @Operation(summary = "List transportations with offset or keyset pagination")
     public ResponseEntity<List<TransportationDTO>> list(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
             @RequestParam(required = false) TransportStatus status,
             @RequestParam(required = false) Long itemId,
             @RequestParam(required = false) Long fromStorageId,
-            @RequestParam(required = false) Long toStorageId
+            @RequestParam(required = false) Long toStorageId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        if (cursor != null) {
+            var window = service.scroll(KeysetCursor.decode(cursor), size, status, itemId, fromStorageId, toStorageId).map(mapper::toDTO);
+            return KeysetCursor.toResponse(window, withCount ? service.count(status, itemId, fromStorageId, toStorageId) : null);
+        }
+
         var result = service.findPage(page, size, status, itemId, fromStorageId, toStorageId).map(mapper::toDTO);
         var headers = new HttpHeaders();
         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
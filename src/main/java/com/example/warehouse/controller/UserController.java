@@ -1,5 +1,7 @@
 package com.example.warehouse.controller;
 
+import com.example.warehouse.api.ConditionalGet;
+import com.example.warehouse.api.KeysetCursor;
 import com.example.warehouse.dto.UserDTO.UserRequestDTO;
 import com.example.warehouse.dto.UserDTO.UserResponseDTO;
 import com.example.warehouse.entity.User;
@@ -12,12 +14,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
-import org.springframework.http.HttpHeaders;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Validated
@@ -43,6 +46,7 @@ public class UserController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet("users")
     @Operation(summary = "Get user by id")
     public UserResponseDTO getById(@PathVariable Long id) {
         return mapper.toResponseDTO(service.getUserById(id));
@@ -62,17 +66,22 @@ public class UserController {
         return ResponseEntity.noContent().build();
     }
 
-//     @GetMapping
-//     @Operation(summary = "List users with pagination and total count")
-//     public ResponseEntity<List<UserResponseDTO>> list(
-//             @RequestParam(defaultValue = "0") @Min(0) int page,
-//             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
-//             @RequestParam(required = false) RoleType role,
-//             @RequestParam(required = false) String emailLike
-//     ) {
-//         var result = service.findPage(page, size, role, emailLike);
-//         var headers = new HttpHeaders();
-//         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
-//         return new ResponseEntity<>(result.getContent(), headers, HttpStatus.OK);
-//     }
+    @GetMapping
+    @ConditionalGet("users")
+    @Operation(summary = "List users with keyset pagination")
+    public ResponseEntity<List<UserResponseDTO>> list(
+            @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
+            @RequestParam(required = false) RoleType role,
+            @RequestParam(required = false) String emailPrefix,
+            @RequestParam(required = false) String lastName,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
+    ) {
+        var window = service.scroll(KeysetCursor.decode(cursor), size, role, emailPrefix, lastName, createdFrom, createdTo)
+                .map(mapper::toResponseDTO);
+        return KeysetCursor.toResponse(window,
+                withCount ? service.count(role, emailPrefix, lastName, createdFrom, createdTo) : null);
+    }
 }
@@ -1,5 +1,7 @@
 package com.example.warehouse.controller;
 
+import com.example.warehouse.api.ConditionalGet;
+import com.example.warehouse.api.KeysetCursor;
 import com.example.warehouse.dto.UserStorageAccessDTO;
 import com.example.warehouse.entity.UserStorageAccess;
 import com.example.warehouse.enumeration.AccessLevel;
@@ -42,6 +44,7 @@ public class UserStorageAccessController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet({"user_storage_access", "users", "storages"})
     @Operation(summary = "Get access by id")
     public UserStorageAccess getById(@PathVariable Long id) {
         return service.getById(id);
@@ -62,15 +65,23 @@ public class UserStorageAccessController {
     }
 
     @GetMapping
-    @Operation(summary = "List access entries with pagination and total count")
+    @ConditionalGet("user_storage_access")
+    @Operation(summary = "List access entries with offset or keyset pagination")
     public ResponseEntity<List<UserStorageAccessDTO>> list(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
             @RequestParam(required = false) Long userId,
             @RequestParam(required = false) Long storageId,
             @RequestParam(required = false) AccessLevel accessLevel,
-            @RequestParam(required = false) Boolean active
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        if (cursor != null) {
+            var window = service.scroll(KeysetCursor.decode(cursor), size, userId, storageId, accessLevel, active).map(mapper::toDTO);
+            return KeysetCursor.toResponse(window, withCount ? service.count(userId, storageId, accessLevel, active) : null);
+        }
+
         var result = service.findPage(page, size, userId, storageId, accessLevel, active).map(mapper::toDTO);
         var headers = new HttpHeaders();
         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
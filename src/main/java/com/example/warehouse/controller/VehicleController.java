@@ -1,5 +1,7 @@
 package com.example.warehouse.controller;
 
+import com.example.warehouse.api.ConditionalGet;
+import com.example.warehouse.api.KeysetCursor;
 import com.example.warehouse.dto.VehicleDTO;
 import com.example.warehouse.entity.Vehicle;
 import com.example.warehouse.enumeration.VehicleStatus;
@@ -44,6 +46,7 @@ public class VehicleController {
     }
 
     @GetMapping("/{id}")
+    @ConditionalGet("vehicles")
     @Operation(summary = "Get vehicle by id")
     public VehicleDTO getById(@PathVariable Long id) {
         return mapper.toDTO(service.getById(id));
@@ -64,14 +67,22 @@ public class VehicleController {
     }
 
     @GetMapping
-    @Operation(summary = "List vehicles with pagination and total count")
+    @ConditionalGet("vehicles")
+    @Operation(summary = "List vehicles with offset or keyset pagination")
     public ResponseEntity<List<VehicleDTO>> list(
             @RequestParam(defaultValue = "0") @Min(0) int page,
             @RequestParam(defaultValue = "20") @Min(1) @Max(50) int size,
             @RequestParam(required = false) VehicleStatus status,
             @RequestParam(required = false) String brand,
-            @RequestParam(required = false) String model
+            @RequestParam(required = false) String model,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "false") boolean withCount
     ) {
+        if (cursor != null) {
+            var window = service.scroll(KeysetCursor.decode(cursor), size, status, brand, model).map(mapper::toDTO);
+            return KeysetCursor.toResponse(window, withCount ? service.count(status, brand, model) : null);
+        }
+
         var result = service.findPage(page, size, status, brand, model).map(mapper::toDTO);
         var headers = new HttpHeaders();
         headers.add("X-Total-Count", String.valueOf(result.getTotalElements()));
@@ -0,0 +1,434 @@
+package com.example.warehouse.dataset;
+
+import com.example.warehouse.enumeration.AccessLevel;
+import com.example.warehouse.enumeration.BorrowStatus;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.MaintenanceStatus;
+import com.example.warehouse.enumeration.RoleType;
+import com.example.warehouse.enumeration.TransportStatus;
+import com.example.warehouse.enumeration.VehicleStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates a reproducible, production-shaped dataset for the nine domain tables and loads it
+ * with COPY. The same seed, scale and anchor always produce the same rows: every table draws
+ * from its own random stream, so changing one table's generator leaves the others intact.
+ * <p>
+ * Distributions are deliberately uneven: a few items and users account for most borrowings,
+ * historic transport windows overlap freely while active ones respect the driver and vehicle
+ * schedules, and a share of accesses and borrowings are already past their expiry so the
+ * periodic jobs have work to do. Existing rows in these tables are truncated first.
+ */
+@Slf4j
+public class DatasetGenerator {
+
+    private static final List<String> TABLES = List.of(
+            "users", "storages", "vehicles", "items", "keeping",
+            "borrowings", "transportations", "item_maintenance", "user_storage_access");
+
+    private static final String[] FIRST_NAMES = {"Ivan", "Anna", "Petr", "Maria", "Alexey", "Olga", "Dmitry",
+            "Elena", "Sergey", "Natalia", "Andrey", "Tatiana", "Mikhail", "Irina", "Nikolai", "Svetlana"};
+    private static final String[] LAST_NAMES = {"Ivanov", "Petrov", "Sidorov", "Smirnov", "Kuznetsov", "Popov",
+            "Vasiliev", "Sokolov", "Mikhailov", "Novikov", "Fedorov", "Morozov", "Volkov", "Lebedev"};
+    private static final String[] BRANDS = {"Ford", "Mercedes", "Volkswagen", "Renault", "GAZ", "Iveco", "Fiat"};
+    private static final String[] MODELS = {"Transit", "Sprinter", "Crafter", "Master", "Gazelle", "Daily", "Ducato"};
+    private static final String[] ITEM_NOUNS = {"Laptop", "Drill", "Oscilloscope", "Projector", "Chair", "Desk",
+            "Multimeter", "Camera", "Router", "Soldering station", "Ladder", "Generator", "Monitor", "Printer"};
+    private static final String[] PURPOSES = {"Lab work", "Lecture", "Field trip", "Repair", "Event", "Research"};
+
+    private final long seed;
+    private final LocalDateTime anchor;
+
+    private RoleType[] roles;
+    private long[] driverIds;
+    private long[] staffIds;
+
+    public DatasetGenerator(long seed, LocalDateTime anchor) {
+        this.seed = seed;
+        this.anchor = anchor;
+    }
+
+    /**
+     * Replaces the contents of the domain tables with a dataset of the given scale and returns
+     * the number of rows loaded per table.
+     */
+    public Map<String, Long> generate(Connection connection, DatasetScale scale) throws SQLException {
+        CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+        Map<String, Long> loaded = new LinkedHashMap<>();
+        long started = System.nanoTime();
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET synchronous_commit = off");
+            statement.execute("TRUNCATE TABLE " + String.join(", ", TABLES) + " RESTART IDENTITY CASCADE");
+        }
+
+        loaded.put("users", users(copyManager, scale));
+        loaded.put("storages", storages(copyManager, scale));
+        loaded.put("vehicles", vehicles(copyManager, scale));
+        loaded.put("items", items(copyManager, scale));
+        loaded.put("keeping", keepings(copyManager, scale));
+        loaded.put("borrowings", borrowings(copyManager, scale));
+        loaded.put("transportations", transportations(copyManager, scale));
+        loaded.put("item_maintenance", maintenances(copyManager, scale));
+        loaded.put("user_storage_access", accesses(copyManager, scale));
+
+        try (Statement statement = connection.createStatement()) {
+            for (String table : TABLES) {
+                statement.execute("SELECT setval(pg_get_serial_sequence('" + table + "', 'id'), " +
+                        "(SELECT COALESCE(max(id), 1) FROM " + table + "))");
+            }
+            statement.execute("ANALYZE " + String.join(", ", TABLES));
+        }
+
+        log.info("Generated dataset (seed {}, {} items) in {} s: {}", seed, scale.items(),
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - started), loaded);
+        return loaded;
+    }
+
+    private long users(CopyManager copyManager, DatasetScale scale) throws SQLException {
+        SplittableRandom random = random(1);
+        roles = new RoleType[(int) scale.users() + 1];
+        List<Long> drivers = new ArrayList<>();
+        List<Long> staff = new ArrayList<>();
+
+        return copy(copyManager, "users", "id, first_name, second_name, last_name, role, email, created_at", copy -> {
+            for (long id = 1; id <= scale.users(); id++) {
+                RoleType role = id == 1 ? RoleType.ADMIN : pick(random, new RoleType[]{
+                        RoleType.ADMIN, RoleType.MANAGER, RoleType.STUDENT, RoleType.TEACHER, RoleType.DRIVER},
+                        new int[]{1, 3, 70, 16, 10});
+                roles[(int) id] = role;
+                if (role == RoleType.DRIVER) {
+                    drivers.add(id);
+                } else if (role != RoleType.STUDENT) {
+                    staff.add(id);
+                }
+                copy.row(id,
+                        FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+                        random.nextInt(3) == 0 ? FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + "ovich" : null,
+                        LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+                        role,
+                        "user" + id + "@warehouse.test",
+                        anchor.minusMinutes(random.nextLong(TimeUnit.DAYS.toMinutes(1_000))));
+            }
+            if (drivers.isEmpty()) {
+                drivers.add(scale.users());
+            }
+            driverIds = drivers.stream().mapToLong(Long::longValue).toArray();
+            staffIds = staff.stream().mapToLong(Long::longValue).toArray();
+        });
+    }
+
+    private long storages(CopyManager copyManager, DatasetScale scale) throws SQLException {
+        SplittableRandom random = random(2);
+        return copy(copyManager, "storages", "id, name, address, capacity, created_at", copy -> {
+            for (long id = 1; id <= scale.storages(); id++) {
+                copy.row(id,
+                        "Storage " + id,
+                        (1 + random.nextInt(200)) + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " street",
+                        1_000 + random.nextInt(100_000),
+                        anchor.minusDays(500 + random.nextInt(1_000)));
+            }
+        });
+    }
+
+    private long vehicles(CopyManager copyManager, DatasetScale scale) throws SQLException {
+        SplittableRandom random = random(3);
+        return copy(copyManager, "vehicles", "id, brand, model, license_plate, year, capacity, status", copy -> {
+            for (long id = 1; id <= scale.vehicles(); id++) {
+                int model = random.nextInt(BRANDS.length);
+                copy.row(id,
+                        BRANDS[model],
+                        MODELS[model],
+                        "V" + String.format("%07d", id),
+                        2008 + random.nextInt(17),
+                        500 + random.nextInt(3_000),
+                        pick(random, VehicleStatus.values(), new int[]{80, 10, 7, 3}));
+            }
+        });
+    }
+
+    private long items(CopyManager copyManager, DatasetScale scale) throws SQLException {
+        SplittableRandom random = random(4);
+        return copy(copyManager, "items", "id, name, type, condition, serial_number, description, created_at", copy -> {
+            for (long id = 1; id <= scale.items(); id++) {
+                String noun = ITEM_NOUNS[random.nextInt(ITEM_NOUNS.length)];
+                copy.row(id,
+                        noun + " " + Long.toString(random.nextLong(36L * 36 * 36 * 36), 36).toUpperCase(),
+                        pick(random, ItemType.values(), new int[]{25, 20, 20, 10, 2, 13, 10}),
+                        pick(random, ItemCondition.values(), new int[]{10, 25, 35, 18, 6, 4, 2}),
+                        "SN-" + String.format("%010d", id),
+                        random.nextInt(4) == 0 ? null : "Generated " + noun.toLowerCase() + " #" + id,
+                        anchor.minusMinutes(random.nextLong(TimeUnit.DAYS.toMinutes(1_500))));
+            }
+        });
+    }
+
+    private long keepings(CopyManager copyManager, DatasetScale scale) throws SQLException {
+        SplittableRandom random = random(5);
+        return copy(copyManager, "keeping", "id, storage_id, item_id, quantity, shelf, last_updated", copy -> {
+            long id = 1;
+            for (long item = 1; item <= scale.items(); item++) {
+                long firstStorage = 1 + random.nextLong(scale.storages());
+                int locations = scale.storages() > 1 && random.nextInt(5) == 0 ? 2 : 1;
+                for (int i = 0; i < locations; i++) {
+                    long storage = 1 + (firstStorage - 1 + i) % scale.storages();
+                    copy.row(id++,
+                            storage,
+                            item,
+                            1 + (int) skewed(random, 100),
+                            (char) ('A' + random.nextInt(12)) + "-" + (1 + random.nextInt(40)),
+                            anchor.minusMinutes(random.nextLong(TimeUnit.DAYS.toMinutes(365))));
+                }
+            }
+        });
+    }
+
+    private long borrowings(CopyManager copyManager, DatasetScale scale) throws SQLException {
+        SplittableRandom random = random(6);
+        long itemStride = coprimeStride(scale.items());
+        long userStride = coprimeStride(scale.users());
+        return copy(copyManager, "borrowings", "id, item_id, user_id, quantity, borrow_date, expected_return_date, " +
+                "actual_return_date, status, purpose", copy -> {
+            for (long id = 1; id <= scale.borrowings(); id++) {
+                long item = popular(random, scale.items(), itemStride);
+                long user = popular(random, scale.users(), userStride);
+                LocalDateTime borrowed = anchor.minusMinutes(random.nextLong(TimeUnit.DAYS.toMinutes(730)));
+                LocalDateTime expected = borrowed.plusDays(1 + random.nextInt(30));
+                LocalDateTime returned = null;
+                BorrowStatus status;
+                if (expected.isAfter(anchor)) {
+                    status = BorrowStatus.ACTIVE;
+                } else {
+                    int roll = random.nextInt(100);
+                    if (roll < 84) {
+                        status = BorrowStatus.RETURNED;
+                        returned = expected.minusHours(random.nextInt(72)).plusHours(random.nextInt(96));
+                        if (returned.isBefore(borrowed)) {
+                            returned = borrowed.plusHours(1);
+                        }
+                    } else if (roll < 90) {
+                        status = BorrowStatus.OVERDUE;
+                    } else if (roll < 95) {
+                        // Past due but not yet swept by the overdue job.
+                        status = BorrowStatus.ACTIVE;
+                    } else {
+                        status = BorrowStatus.CANCELLED;
+                    }
+                }
+                copy.row(id, item, user, 1 + (int) skewed(random, 5), borrowed, expected, returned, status,
+                        random.nextInt(3) == 0 ? null : PURPOSES[random.nextInt(PURPOSES.length)]);
+            }
+        });
+    }
+
+    private long transportations(CopyManager copyManager, DatasetScale scale) throws SQLException {
+        SplittableRandom random = random(7);
+        LocalDateTime[] driverFree = new LocalDateTime[driverIds.length];
+        LocalDateTime[] vehicleFree = new LocalDateTime[(int) scale.vehicles() + 1];
+        LocalDateTime activeStart = anchor.minusDays(1);
+        Arrays.fill(driverFree, activeStart);
+        Arrays.fill(vehicleFree, activeStart);
+
+        return copy(copyManager, "transportations", "id, item_id, vehicle_id, driver_id, from_storage_id, " +
+                "to_storage_id, status, scheduled_departure, actual_departure, scheduled_arrival, actual_arrival, " +
+                "created_at", copy -> {
+            for (long id = 1; id <= scale.transportations(); id++) {
+                long item = 1 + random.nextLong(scale.items());
+                int driverIndex = random.nextInt(driverIds.length);
+                int vehicle = 1 + random.nextInt((int) scale.vehicles());
+                long from = 1 + random.nextLong(scale.storages());
+                long to = scale.storages() > 1 ? 1 + (from + random.nextLong(scale.storages() - 1)) % scale.storages() : from;
+                long durationMinutes = 60 + random.nextLong(11 * 60);
+
+                LocalDateTime departure;
+                LocalDateTime arrival;
+                LocalDateTime actualDeparture = null;
+                LocalDateTime actualArrival = null;
+                TransportStatus status;
+
+                if (random.nextInt(100) < 80) {
+                    // History: windows overlap freely, the exclusion constraints ignore finished rows.
+                    departure = anchor.minusMinutes(TimeUnit.DAYS.toMinutes(1) + random.nextLong(TimeUnit.DAYS.toMinutes(730)));
+                    arrival = departure.plusMinutes(durationMinutes);
+                    if (random.nextInt(8) == 0) {
+                        status = TransportStatus.CANCELLED;
+                    } else {
+                        status = TransportStatus.DELIVERED;
+                        actualDeparture = departure.plusMinutes(random.nextInt(45));
+                        actualArrival = arrival.plusMinutes(random.nextInt(120) - 30);
+                    }
+                } else {
+                    // Active bookings are laid end to end per driver and vehicle, with random gaps.
+                    departure = max(driverFree[driverIndex], vehicleFree[vehicle]).plusMinutes(random.nextInt(8 * 60));
+                    arrival = departure.plusMinutes(durationMinutes);
+                    driverFree[driverIndex] = arrival;
+                    vehicleFree[vehicle] = arrival;
+                    if (departure.isAfter(anchor)) {
+                        status = TransportStatus.PLANNED;
+                    } else {
+                        actualDeparture = departure.plusMinutes(random.nextInt(30));
+                        status = arrival.isAfter(anchor) ? TransportStatus.IN_TRANSIT : TransportStatus.DELAYED;
+                    }
+                }
+                copy.row(id, item, vehicle, driverIds[driverIndex], from, to, status,
+                        departure, actualDeparture, arrival, actualArrival,
+                        departure.minusHours(1 + random.nextInt(24 * 14)));
+            }
+        });
+    }
+
+    private long maintenances(CopyManager copyManager, DatasetScale scale) throws SQLException {
+        SplittableRandom random = random(8);
+        long[] technicians = staffIds.length > 0 ? staffIds : driverIds;
+        return copy(copyManager, "item_maintenance", "id, item_id, technician_id, maintenance_date, " +
+                "next_maintenance_date, cost, description, status, created_at", copy -> {
+            for (long id = 1; id <= scale.maintenances(); id++) {
+                LocalDateTime date = anchor.plusDays(60).minusMinutes(random.nextLong(TimeUnit.DAYS.toMinutes(790)));
+                MaintenanceStatus status;
+                if (date.isAfter(anchor)) {
+                    status = random.nextInt(10) == 0 ? MaintenanceStatus.CANCELLED : MaintenanceStatus.PLANNED;
+                } else if (date.isAfter(anchor.minusDays(3))) {
+                    status = MaintenanceStatus.IN_PROGRESS;
+                } else {
+                    status = random.nextInt(20) == 0 ? MaintenanceStatus.CANCELLED : MaintenanceStatus.COMPLETED;
+                }
+                copy.row(id,
+                        1 + random.nextLong(scale.items()),
+                        technicians[random.nextInt(technicians.length)],
+                        date,
+                        random.nextInt(3) == 0 ? null : date.plusDays(90 + random.nextInt(270)),
+                        BigDecimal.valueOf(500 + random.nextLong(5_000_000), 2),
+                        random.nextInt(2) == 0 ? null : "Scheduled service #" + id,
+                        status,
+                        date.minusDays(1 + random.nextInt(30)));
+            }
+        });
+    }
+
+    private long accesses(CopyManager copyManager, DatasetScale scale) throws SQLException {
+        SplittableRandom random = random(9);
+        long[] grantors = staffIds.length > 0 ? staffIds : new long[]{1};
+        return copy(copyManager, "user_storage_access", "id, user_id, storage_id, access_level, granted_by, " +
+                "granted_at, expires_at, is_active", copy -> {
+            long id = 1;
+            for (long user = 1; user <= scale.users(); user++) {
+                int grants = (int) Math.min(scale.storages(), roles[(int) user] == RoleType.STUDENT
+                        ? random.nextInt(3) : 1 + random.nextInt(4));
+                long firstStorage = random.nextLong(scale.storages());
+                for (int i = 0; i < grants; i++) {
+                    LocalDateTime granted = anchor.minusMinutes(random.nextLong(TimeUnit.DAYS.toMinutes(700)));
+                    LocalDateTime expires = null;
+                    boolean active = true;
+                    int roll = random.nextInt(100);
+                    if (roll < 30) {
+                        expires = anchor.plusMinutes(1 + random.nextLong(TimeUnit.DAYS.toMinutes(365)));
+                    } else if (roll < 45) {
+                        // Expired, still flagged active until the deactivation job runs.
+                        expires = anchor.minusMinutes(1 + random.nextLong(TimeUnit.DAYS.toMinutes(30)));
+                    } else if (roll < 60) {
+                        expires = anchor.minusMinutes(1 + random.nextLong(TimeUnit.DAYS.toMinutes(365)));
+                        active = false;
+                    }
+                    if (expires != null && expires.isBefore(granted)) {
+                        granted = expires.minusDays(1 + random.nextInt(90));
+                    }
+                    copy.row(id++,
+                            user,
+                            1 + (firstStorage + i) % scale.storages(),
+                            roles[(int) user] == RoleType.ADMIN ? AccessLevel.ADMIN
+                                    : pick(random, AccessLevel.values(), new int[]{80, 17, 3}),
+                            grantors[random.nextInt(grantors.length)],
+                            granted,
+                            expires,
+                            active);
+                }
+            }
+        });
+    }
+
+    private long copy(CopyManager copyManager, String table, String columns, RowWriter writer) throws SQLException {
+        long started = System.nanoTime();
+        CsvCopy copy = new CsvCopy(copyManager, table, columns);
+        try {
+            writer.write(copy);
+        } catch (SQLException | RuntimeException e) {
+            copy.cancel();
+            throw e;
+        }
+        copy.close();
+        log.info("Loaded {} rows into {} in {} ms", copy.rows(), table,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+        return copy.rows();
+    }
+
+    private SplittableRandom random(int stream) {
+        return new SplittableRandom(seed * 1_000_003L + stream);
+    }
+
+    /**
+     * Returns a value in [0, bound) with a long tail: low values are drawn far more often.
+     */
+    private static long skewed(SplittableRandom random, long bound) {
+        return Math.min(bound - 1, (long) (bound * Math.pow(random.nextDouble(), 3)));
+    }
+
+    /**
+     * Draws an id in [1, n] where a small set of ids is very popular. Popularity ranks are
+     * scattered over the id space, so hot rows are not simply the oldest ones.
+     */
+    private static long popular(SplittableRandom random, long n, long stride) {
+        return 1 + Math.floorMod(skewed(random, n) * stride, n);
+    }
+
+    private static long coprimeStride(long n) {
+        long stride = Math.max(1, (long) (n * 0.618_033_988_7));
+        while (gcd(stride, n) != 1) {
+            stride++;
+        }
+        return stride;
+    }
+
+    private static long gcd(long a, long b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static <T> T pick(SplittableRandom random, T[] values, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int roll = random.nextInt(total);
+        for (int i = 0; i < values.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return values[i];
+            }
+        }
+        return values[values.length - 1];
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(CsvCopy copy) throws SQLException;
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.warehouse.dataset;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line entry point of {@link DatasetGenerator}, run with
+ * {@code ./gradlew generateDataset --args="--scale=1M --seed=42"}. The schema must already be
+ * migrated, i.e. the application has been started against the database at least once.
+ */
+public final class DatasetGeneratorCli {
+
+    private static final String USAGE = """
+            Usage: generateDataset [--scale=100k] [--seed=42] [--anchor=2025-01-01T00:00]
+                                   [--url=jdbc:postgresql://localhost:5432/warehouse]
+                                   [--user=liquibase] [--password=securepassword]
+            Replaces the rows of the domain tables with a generated dataset.
+            The same scale, seed and anchor always produce the same data.""";
+
+    private DatasetGeneratorCli() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parse(args);
+        if (options.containsKey("help")) {
+            System.out.println(USAGE);
+            return;
+        }
+
+        DatasetScale scale = DatasetScale.parse(options.getOrDefault("scale", "100k"));
+        long seed = Long.parseLong(options.getOrDefault("seed", "42"));
+        LocalDateTime anchor = options.containsKey("anchor")
+                ? LocalDateTime.parse(options.get("anchor"))
+                : LocalDate.now().atStartOfDay();
+
+        try (Connection connection = DriverManager.getConnection(
+                options.getOrDefault("url", "jdbc:postgresql://localhost:5432/warehouse"),
+                options.getOrDefault("user", "liquibase"),
+                options.getOrDefault("password", "securepassword"))) {
+            Map<String, Long> loaded = new DatasetGenerator(seed, anchor).generate(connection, scale);
+            loaded.forEach((table, rows) -> System.out.printf("%-22s %,d%n", table, rows));
+        }
+    }
+
+    private static Map<String, String> parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg + "\n" + USAGE);
+            }
+            int separator = arg.indexOf('=');
+            if (separator < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, separator), arg.substring(separator + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.warehouse.dataset;
+
+import java.util.Locale;
+
+/**
+ * Row counts of a generated dataset. Everything is derived from the number of items so a
+ * single {@code --scale} knob keeps the tables in realistic proportion to each other.
+ */
+public record DatasetScale(
+        long items,
+        long users,
+        long storages,
+        long vehicles,
+        long borrowings,
+        long transportations,
+        long maintenances
+) {
+
+    public static DatasetScale of(long items) {
+        if (items < 1) {
+            throw new IllegalArgumentException("Scale must be positive: " + items);
+        }
+        return new DatasetScale(
+                items,
+                Math.max(100, items / 50),
+                Math.max(5, items / 5_000),
+                Math.max(10, items / 1_000),
+                items * 3,
+                items,
+                Math.max(1, items / 5));
+    }
+
+    /**
+     * Parses scales such as {@code 1M}, {@code 250k} or {@code 5000}.
+     */
+    public static DatasetScale parse(String value) {
+        String normalized = value.trim().toLowerCase(Locale.ROOT).replace("_", "");
+        long multiplier = 1;
+        if (normalized.endsWith("m")) {
+            multiplier = 1_000_000;
+            normalized = normalized.substring(0, normalized.length() - 1);
+        } else if (normalized.endsWith("k")) {
+            multiplier = 1_000;
+            normalized = normalized.substring(0, normalized.length() - 1);
+        }
+        return of(Math.round(Double.parseDouble(normalized) * multiplier));
+    }
+}
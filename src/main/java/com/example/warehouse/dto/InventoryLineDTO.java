@@ -0,0 +1,10 @@
+package com.example.warehouse.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonNaming(value = com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record InventoryLineDTO(
+        Long itemId,
+        Integer quantity
+) {
+}
@@ -0,0 +1,20 @@
+package com.example.warehouse.dto;
+
+import com.example.warehouse.enumeration.JobRunStatus;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.time.LocalDateTime;
+
+@JsonNaming(value = com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record JobRunDTO(
+        Long id,
+        String jobName,
+        String owner,
+        JobRunStatus status,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        Long durationMs,
+        Integer rowsAffected,
+        String errorMessage
+) {
+}
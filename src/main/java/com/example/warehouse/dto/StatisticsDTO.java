@@ -0,0 +1,29 @@
+package com.example.warehouse.dto;
+
+import com.example.warehouse.enumeration.BorrowStatus;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.MaintenanceStatus;
+import com.example.warehouse.enumeration.RoleType;
+import com.example.warehouse.enumeration.TransportStatus;
+import com.example.warehouse.enumeration.VehicleStatus;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Row counts per enum value for the ops dashboard, as of {@code computedAt}. Each family is
+ * counted separately, so the families are not a single consistent snapshot.
+ */
+@JsonNaming(value = com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record StatisticsDTO(
+        LocalDateTime computedAt,
+        Map<RoleType, Long> usersByRole,
+        Map<BorrowStatus, Long> borrowingsByStatus,
+        Map<TransportStatus, Long> transportationsByStatus,
+        Map<MaintenanceStatus, Long> maintenanceByStatus,
+        Map<ItemType, Map<ItemCondition, Long>> itemsByTypeAndCondition,
+        Map<VehicleStatus, Long> vehiclesByStatus
+) {
+}
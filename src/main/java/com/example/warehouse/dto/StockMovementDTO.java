@@ -0,0 +1,20 @@
+package com.example.warehouse.dto;
+
+import com.example.warehouse.enumeration.StockMovementType;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.time.LocalDateTime;
+
+@JsonNaming(value = com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record StockMovementDTO(
+        Long id,
+        Long storageId,
+        Long itemId,
+        StockMovementType type,
+        Integer delta,
+        Integer quantityAfter,
+        String reference,
+        String reason,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,37 @@
+package com.example.warehouse.dto;
+
+import com.example.warehouse.enumeration.StockMovementType;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * {@code quantity} is a positive amount for RECEIVE, ISSUE and TRANSFER, and a signed,
+ * non-zero delta for ADJUST. {@code toStorageId} is only used by TRANSFER.
+ */
+@JsonNaming(value = com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record StockMovementRequestDTO(
+        @NotNull(message = "Type is required")
+        StockMovementType type,
+
+        @NotNull(message = "Storage ID is required")
+        Long storageId,
+
+        @NotNull(message = "Item ID is required")
+        Long itemId,
+
+        @Schema(description = "Destination storage, required for TRANSFER")
+        Long toStorageId,
+
+        @NotNull(message = "Quantity is required")
+        Integer quantity,
+
+        @Size(max = 100, message = "Reference must not exceed 100 characters")
+        String reference,
+
+        @Size(max = 255, message = "Reason must not exceed 255 characters")
+        String reason
+) {
+}
@@ -0,0 +1,19 @@
+package com.example.warehouse.dto;
+
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Quantities kept in a storage at {@code asOf}. {@code snapshotTakenAt} is the snapshot the
+ * answer was replayed from, or null when it was rolled back from the live keeping rows.
+ */
+@JsonNaming(value = com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record StorageInventoryDTO(
+        Long storageId,
+        LocalDateTime asOf,
+        LocalDateTime snapshotTakenAt,
+        List<InventoryLineDTO> lines
+) {
+}
@@ -0,0 +1,22 @@
+package com.example.warehouse.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonNaming(value = com.fasterxml.jackson.databind.PropertyNamingStrategies.SnakeCaseStrategy.class)
+public record TransportationBatchResultDTO(
+        int index,
+        boolean created,
+        TransportationDTO transportation,
+        String error
+) {
+
+    public static TransportationBatchResultDTO created(int index, TransportationDTO transportation) {
+        return new TransportationBatchResultDTO(index, true, transportation, null);
+    }
+
+    public static TransportationBatchResultDTO rejected(int index, String error) {
+        return new TransportationBatchResultDTO(index, false, null, error);
+    }
+}
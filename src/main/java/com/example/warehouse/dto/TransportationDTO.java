@@ -7,6 +7,7 @@ import com.fasterxml.jackson.databind.annotation.JsonNaming;
 
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 import java.time.LocalDateTime;
 
@@ -30,6 +31,10 @@ public record TransportationDTO(
         @NotNull(message = "To storage ID is required")
         Long toStorageId,
 
+        @Positive(message = "Quantity must be positive")
+        @Schema(example = "1")
+        Integer quantity,
+
         @NotNull(message = "Status is required")
         TransportStatus status,
 
@@ -58,6 +63,9 @@ public record TransportationDTO(
         if (status == null) {
             status = TransportStatus.PLANNED;
         }
+        if (quantity == null) {
+            quantity = 1;
+        }
     }
 
     public TransportationDTO(Transportation transportation) {
@@ -68,6 +76,7 @@ public record TransportationDTO(
                 transportation != null && transportation.getDriver() != null ? transportation.getDriver().getId() : null,
                 transportation != null && transportation.getFromStorage() != null ? transportation.getFromStorage().getId() : null,
                 transportation != null && transportation.getToStorage() != null ? transportation.getToStorage().getId() : null,
+                transportation != null ? transportation.getQuantity() : null,
                 transportation != null ? transportation.getStatus() : TransportStatus.PLANNED,
                 transportation != null ? transportation.getScheduledDeparture() : null,
                 transportation != null ? transportation.getActualDeparture() : null,
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class Borrowing {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "borrowings_seq")
+    @SequenceGenerator(name = "borrowings_seq", sequenceName = "borrowings_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Item is required")
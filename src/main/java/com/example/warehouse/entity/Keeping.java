@@ -2,7 +2,7 @@ package com.example.warehouse.entity;
 
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
-import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.*;
 import org.hibernate.annotations.UpdateTimestamp;
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class Keeping {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "keeping_seq")
+    @SequenceGenerator(name = "keeping_seq", sequenceName = "keeping_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "Storage is required")
@@ -33,7 +34,7 @@ public class Keeping {
     private Item item;
 
     @NotNull(message = "Quantity is required")
-    @Positive(message = "Quantity must be positive")
+    @PositiveOrZero(message = "Quantity must not be negative")
     @Column(nullable = false)
     @Builder.Default
     private Integer quantity = 1;
@@ -0,0 +1,56 @@
+package com.example.warehouse.entity;
+
+import com.example.warehouse.enumeration.StockMovementType;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One row of the append-only stock ledger. {@code delta} is signed; {@code quantityAfter} is
+ * the keeping quantity right after the movement was applied, so the ledger can be read
+ * without replaying it from the start.
+ */
+@Data
+@Entity
+@Builder
+@Immutable
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(name = "stock_movements")
+public class StockMovement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "storage_id", nullable = false)
+    private Storage storage;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "item_id", nullable = false)
+    private Item item;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StockMovementType type;
+
+    @Column(nullable = false)
+    private Integer delta;
+
+    @Column(name = "quantity_after", nullable = false)
+    private Integer quantityAfter;
+
+    @Column(length = 100)
+    private String reference;
+
+    @Column(length = 255)
+    private String reason;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
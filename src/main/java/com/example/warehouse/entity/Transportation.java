@@ -3,6 +3,7 @@ package com.example.warehouse.entity;
 import com.example.warehouse.enumeration.TransportStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
 import java.time.LocalDateTime;
@@ -44,6 +45,11 @@ public class Transportation {
     @JoinColumn(name = "to_storage_id", nullable = false)
     private Storage toStorage;
 
+    @Positive(message = "Quantity must be positive")
+    @Builder.Default
+    @Column(nullable = false)
+    private Integer quantity = 1;
+
     @NotNull(message = "Status is required")
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
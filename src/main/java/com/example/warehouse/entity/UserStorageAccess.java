@@ -20,7 +20,8 @@ import java.time.LocalDateTime;
 public class UserStorageAccess {
     
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_storage_access_seq")
+    @SequenceGenerator(name = "user_storage_access_seq", sequenceName = "user_storage_access_seq", allocationSize = 50)
     private Long id;
 
     @NotNull(message = "User is required")
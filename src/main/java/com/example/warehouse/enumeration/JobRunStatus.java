@@ -0,0 +1,7 @@
+package com.example.warehouse.enumeration;
+
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,8 @@
+package com.example.warehouse.enumeration;
+
+public enum StockMovementType {
+    RECEIVE,
+    ISSUE,
+    ADJUST,
+    TRANSFER
+}
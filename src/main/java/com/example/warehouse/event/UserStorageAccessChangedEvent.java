@@ -0,0 +1,4 @@
+package com.example.warehouse.event;
+
+public record UserStorageAccessChangedEvent(Long userId, Long storageId) {
+}
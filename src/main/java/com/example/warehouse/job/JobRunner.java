@@ -0,0 +1,98 @@
+package com.example.warehouse.job;
+
+import com.example.warehouse.entity.JobRun;
+import com.example.warehouse.enumeration.JobRunStatus;
+import com.example.warehouse.repository.JobLeaseRepository;
+import com.example.warehouse.repository.JobRunRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Runs a periodic job on at most one replica at a time and records every run in
+ * {@code job_runs}. A replica that cannot take the job's lease skips the tick; the lease
+ * outlives a crashed holder only until {@code lease-seconds} elapse.
+ */
+@Slf4j
+@Component
+public class JobRunner {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final JobLeaseRepository jobLeaseRepository;
+    private final JobRunRepository jobRunRepository;
+    private final long leaseSeconds;
+    private final String owner;
+
+    public JobRunner(JobLeaseRepository jobLeaseRepository,
+                     JobRunRepository jobRunRepository,
+                     @Value("${warehouse.jobs.lease-seconds:900}") long leaseSeconds) {
+        this.jobLeaseRepository = jobLeaseRepository;
+        this.jobRunRepository = jobRunRepository;
+        this.leaseSeconds = leaseSeconds;
+        this.owner = hostName() + ":" + UUID.randomUUID();
+    }
+
+    /**
+     * Runs {@code work} if this instance holds the lease for {@code jobName}. The supplier
+     * returns the number of rows it touched. Returns the recorded run, or empty when another
+     * instance currently owns the job.
+     */
+    public Optional<JobRun> run(String jobName, IntSupplier work) {
+        if (!jobLeaseRepository.tryAcquire(jobName, owner, leaseSeconds)) {
+            log.debug("Job {} is leased by another instance, skipping", jobName);
+            return Optional.empty();
+        }
+
+        try {
+            JobRun run = jobRunRepository.save(JobRun.builder()
+                    .jobName(jobName)
+                    .owner(owner)
+                    .status(JobRunStatus.RUNNING)
+                    .startedAt(LocalDateTime.now())
+                    .build());
+
+            long started = System.nanoTime();
+            try {
+                run.setRowsAffected(work.getAsInt());
+                run.setStatus(JobRunStatus.SUCCEEDED);
+            } catch (RuntimeException e) {
+                log.error("Job {} failed", jobName, e);
+                run.setStatus(JobRunStatus.FAILED);
+                run.setErrorMessage(truncate(String.valueOf(e)));
+            }
+            run.setFinishedAt(LocalDateTime.now());
+            run.setDurationMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+
+            log.info("Job {} finished with status {} in {} ms, rows: {}",
+                    jobName, run.getStatus(), run.getDurationMs(), run.getRowsAffected());
+            return Optional.of(jobRunRepository.save(run));
+        } finally {
+            jobLeaseRepository.release(jobName, owner);
+        }
+    }
+
+    public String owner() {
+        return owner;
+    }
+
+    private static String truncate(String message) {
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.warehouse.job;
+
+import com.example.warehouse.service.interfaces.BorrowingService;
+import com.example.warehouse.service.interfaces.InventoryService;
+import com.example.warehouse.service.interfaces.TransportationService;
+import com.example.warehouse.service.interfaces.UserStorageAccessService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Schedules of the periodic maintenance jobs. Triggers fire on the scheduler pool, never on
+ * request threads; chunk sizes and row caps of each job live with the service doing the work.
+ */
+@Component
+@RequiredArgsConstructor
+public class WarehouseJobs {
+
+    public static final String OVERDUE_BORROWINGS = "overdue-borrowings";
+    public static final String EXPIRED_ACCESSES = "expired-accesses";
+    public static final String DELAYED_TRANSPORTATIONS = "delayed-transportations";
+    public static final String INVENTORY_SNAPSHOTS = "inventory-snapshots";
+
+    private final JobRunner jobRunner;
+    private final BorrowingService borrowingService;
+    private final UserStorageAccessService userStorageAccessService;
+    private final TransportationService transportationService;
+    private final InventoryService inventoryService;
+
+    @Scheduled(cron = "${warehouse.jobs.overdue-borrowings.cron:0 0 6 * * ?}")
+    public void updateOverdueBorrowings() {
+        jobRunner.run(OVERDUE_BORROWINGS, borrowingService::updateOverdueBorrowings);
+    }
+
+    @Scheduled(cron = "${warehouse.jobs.expired-accesses.cron:0 */5 * * * ?}")
+    public void deactivateExpiredAccesses() {
+        jobRunner.run(EXPIRED_ACCESSES, userStorageAccessService::deactivateExpiredAccesses);
+    }
+
+    @Scheduled(cron = "${warehouse.jobs.delayed-transportations.cron:0 */10 * * * ?}")
+    public void markDelayedTransportations() {
+        jobRunner.run(DELAYED_TRANSPORTATIONS, transportationService::markDelayedTransportations);
+    }
+
+    @Scheduled(cron = "${warehouse.jobs.inventory-snapshots.cron:0 30 2 * * ?}")
+    public void takeInventorySnapshots() {
+        jobRunner.run(INVENTORY_SNAPSHOTS, inventoryService::takeSnapshots);
+    }
+}
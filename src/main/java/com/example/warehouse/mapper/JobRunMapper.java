@@ -0,0 +1,11 @@
+package com.example.warehouse.mapper;
+
+import com.example.warehouse.dto.JobRunDTO;
+import com.example.warehouse.entity.JobRun;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface JobRunMapper {
+    JobRunDTO toDTO(JobRun object);
+    JobRun toEntity(JobRunDTO dto);
+}
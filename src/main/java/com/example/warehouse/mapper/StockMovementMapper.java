@@ -0,0 +1,14 @@
+package com.example.warehouse.mapper;
+
+import com.example.warehouse.dto.StockMovementDTO;
+import com.example.warehouse.entity.StockMovement;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public interface StockMovementMapper {
+
+    @Mapping(target = "storageId", source = "storage.id")
+    @Mapping(target = "itemId", source = "item.id")
+    StockMovementDTO toDTO(StockMovement object);
+}
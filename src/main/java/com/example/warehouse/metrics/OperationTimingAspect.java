@@ -0,0 +1,70 @@
+package com.example.warehouse.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Times every public method of the service implementations and of the hand-written JDBC
+ * repositories. Spring Data repositories are already timed by actuator as
+ * {@code spring.data.repository.invocations}, tagged with repository and method.
+ * <p>
+ * Timers are registered once per (timer, type, method, exception) and kept in a map, so an
+ * advised call only pays a map lookup on top of the sample.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class OperationTimingAspect {
+
+    static final String SERVICE_TIMER = "warehouse.service.invocations";
+    static final String REPOSITORY_TIMER = "warehouse.repository.invocations";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.example.warehouse.service.*ServiceImpl.*(..))")
+    public Object timeService(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(SERVICE_TIMER, "service", joinPoint);
+    }
+
+    @Around("execution(public * com.example.warehouse.repository.*.*(..)) "
+            + "&& @within(org.springframework.stereotype.Repository)")
+    public Object timeJdbcRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        return time(REPOSITORY_TIMER, "repository", joinPoint);
+    }
+
+    private Object time(String name, String typeTag, ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            TimerKey key = new TimerKey(name, typeTag, joinPoint.getSignature().getDeclaringType(),
+                    joinPoint.getSignature().getName(), exception);
+            sample.stop(timers.computeIfAbsent(key, this::register));
+        }
+    }
+
+    private Timer register(TimerKey key) {
+        return Timer.builder(key.name())
+                .tag(key.typeTag(), key.type().getSimpleName())
+                .tag("method", key.method())
+                .tag("exception", key.exception())
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private record TimerKey(String name, String typeTag, Class<?> type, String method, String exception) {
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,9 +17,19 @@ import java.util.List;
 @Repository
 public interface BorrowingRepository extends JpaRepository<Borrowing, Long>, JpaSpecificationExecutor<Borrowing> {
 
-    @Query("SELECT b FROM Borrowing b WHERE b.status = 'ACTIVE' AND b.expectedReturnDate < :now")
+    @Query("SELECT b FROM Borrowing b WHERE b.status = 'OVERDUE' " +
+            "OR (b.status = 'ACTIVE' AND b.expectedReturnDate < :now)")
     Page<Borrowing> findOverdueBorrowings(@Param("now") LocalDateTime now, Pageable pageable);
 
     @Query("SELECT COUNT(b) FROM Borrowing b WHERE b.user.id = :userId AND b.status IN ('ACTIVE', 'OVERDUE')")
     long countActiveBorrowingsByUser(@Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = "UPDATE borrowings SET status = 'OVERDUE' WHERE id IN (" +
+            "SELECT id FROM borrowings WHERE status = 'ACTIVE' AND expected_return_date < :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int markOverdueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
 }
\ No newline at end of file
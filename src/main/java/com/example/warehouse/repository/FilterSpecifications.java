@@ -0,0 +1,70 @@
+package com.example.warehouse.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+
+/**
+ * Null-tolerant building blocks for list filters. Each factory returns an unrestricted
+ * specification when its filter value is absent, so a listing combines all of its optional
+ * filters with {@link Specification#allOf} into one query instead of one finder per
+ * combination.
+ */
+public final class FilterSpecifications {
+
+    private FilterSpecifications() {
+    }
+
+    public static <T> Specification<T> equal(String attribute, Object value) {
+        if (value == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get(attribute), value);
+    }
+
+    public static <T> Specification<T> equalId(String association, Long id) {
+        if (id == null) {
+            return Specification.unrestricted();
+        }
+        return (root, query, cb) -> cb.equal(root.get(association).get("id"), id);
+    }
+
+    /**
+     * Renders as {@code lower(column) LIKE '%value%'}, the shape the {@code lower(column)
+     * gin_trgm_ops} indexes serve; wildcards in the value are matched literally.
+     */
+    public static <T> Specification<T> containsIgnoreCase(String attribute, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return Specification.unrestricted();
+        }
+        String pattern = "%" + escapeLike(value.trim().toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern, '\\');
+    }
+
+    /**
+     * Renders as {@code lower(column) LIKE 'value%'}, which a {@code lower(column)
+     * text_pattern_ops} index serves as a range scan.
+     */
+    public static <T> Specification<T> startsWithIgnoreCase(String attribute, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return Specification.unrestricted();
+        }
+        String pattern = escapeLike(value.trim().toLowerCase()) + "%";
+        return (root, query, cb) -> cb.like(cb.lower(root.get(attribute)), pattern, '\\');
+    }
+
+    public static <T> Specification<T> between(String attribute, LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null) {
+            return (root, query, cb) -> cb.between(root.get(attribute), from, to);
+        } else if (from != null) {
+            return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get(attribute), from);
+        } else if (to != null) {
+            return (root, query, cb) -> cb.lessThanOrEqualTo(root.get(attribute), to);
+        }
+        return Specification.unrestricted();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.warehouse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Per-storage inventory snapshots derived from the stock ledger. A snapshot holds the
+ * quantity of every item kept in a storage at {@code taken_at}; quantities at any other
+ * moment are the nearest snapshot plus (or minus) the movements in between, which the
+ * (storage_id, created_at) ledger index serves as a short range scan.
+ */
+@Repository
+@RequiredArgsConstructor
+public class InventorySnapshotRepository {
+
+    private static final String LATEST_AT_OR_BEFORE_SQL = "SELECT id, taken_at FROM inventory_snapshots " +
+            "WHERE storage_id = ? AND taken_at <= ? ORDER BY taken_at DESC LIMIT 1";
+
+    private static final String EARLIEST_AFTER_SQL = "SELECT id, taken_at FROM inventory_snapshots " +
+            "WHERE storage_id = ? AND taken_at > ? ORDER BY taken_at LIMIT 1";
+
+    private static final String INSERT_SNAPSHOT_SQL = "INSERT INTO inventory_snapshots (storage_id, taken_at) " +
+            "VALUES (?, ?) RETURNING id";
+
+    private static final String UPDATE_LINE_COUNT_SQL = "UPDATE inventory_snapshots SET line_count = ? WHERE id = ?";
+
+    private static final String LINES_FROM_PREVIOUS_SQL = "INSERT INTO inventory_snapshot_lines (snapshot_id, item_id, quantity) " +
+            "SELECT ?, item_id, SUM(quantity) FROM (" +
+            "SELECT item_id, quantity FROM inventory_snapshot_lines WHERE snapshot_id = ? " +
+            "UNION ALL " +
+            "SELECT item_id, delta FROM stock_movements WHERE storage_id = ? AND created_at > ? AND created_at <= ?" +
+            ") x GROUP BY item_id HAVING SUM(quantity) <> 0";
+
+    private static final String LINES_FROM_KEEPING_SQL = "INSERT INTO inventory_snapshot_lines (snapshot_id, item_id, quantity) " +
+            "SELECT ?, item_id, SUM(quantity) FROM (" +
+            "SELECT item_id, quantity FROM keeping WHERE storage_id = ? " +
+            "UNION ALL " +
+            "SELECT item_id, -delta FROM stock_movements WHERE storage_id = ? AND created_at > ?" +
+            ") x GROUP BY item_id HAVING SUM(quantity) <> 0";
+
+    private static final String REPLAY_FORWARD_SQL = "SELECT item_id, SUM(quantity) AS quantity FROM (" +
+            "SELECT item_id, quantity FROM inventory_snapshot_lines WHERE snapshot_id = ? " +
+            "UNION ALL " +
+            "SELECT item_id, delta FROM stock_movements WHERE storage_id = ? AND created_at > ? AND created_at <= ?" +
+            ") x GROUP BY item_id HAVING SUM(quantity) <> 0 ORDER BY item_id";
+
+    private static final String REPLAY_BACKWARD_SQL = "SELECT item_id, SUM(quantity) AS quantity FROM (" +
+            "SELECT item_id, quantity FROM inventory_snapshot_lines WHERE snapshot_id = ? " +
+            "UNION ALL " +
+            "SELECT item_id, -delta FROM stock_movements WHERE storage_id = ? AND created_at > ? AND created_at <= ?" +
+            ") x GROUP BY item_id HAVING SUM(quantity) <> 0 ORDER BY item_id";
+
+    private static final String REPLAY_FROM_KEEPING_SQL = "SELECT item_id, SUM(quantity) AS quantity FROM (" +
+            "SELECT item_id, quantity FROM keeping WHERE storage_id = ? " +
+            "UNION ALL " +
+            "SELECT item_id, -delta FROM stock_movements WHERE storage_id = ? AND created_at > ?" +
+            ") x GROUP BY item_id HAVING SUM(quantity) <> 0 ORDER BY item_id";
+
+    private static final RowMapper<SnapshotRef> SNAPSHOT_REF = (rs, i) ->
+            new SnapshotRef(rs.getLong("id"), rs.getTimestamp("taken_at").toLocalDateTime());
+
+    private static final RowMapper<InventoryLine> INVENTORY_LINE = (rs, i) ->
+            new InventoryLine(rs.getLong("item_id"), rs.getInt("quantity"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<SnapshotRef> findLatestAtOrBefore(Long storageId, LocalDateTime at) {
+        return jdbcTemplate.query(LATEST_AT_OR_BEFORE_SQL, SNAPSHOT_REF, storageId, Timestamp.valueOf(at))
+                .stream().findFirst();
+    }
+
+    public Optional<SnapshotRef> findEarliestAfter(Long storageId, LocalDateTime at) {
+        return jdbcTemplate.query(EARLIEST_AFTER_SQL, SNAPSHOT_REF, storageId, Timestamp.valueOf(at))
+                .stream().findFirst();
+    }
+
+    /**
+     * Writes a snapshot of the storage at {@code takenAt}: rolled forward from
+     * {@code previous} when there is one, otherwise rolled back from the live keeping rows.
+     * Returns the id of the new snapshot.
+     */
+    public long insertSnapshot(Long storageId, LocalDateTime takenAt, SnapshotRef previous) {
+        long id = jdbcTemplate.queryForObject(INSERT_SNAPSHOT_SQL, Long.class, storageId, Timestamp.valueOf(takenAt));
+        int lines = previous != null
+                ? jdbcTemplate.update(LINES_FROM_PREVIOUS_SQL, id, previous.id(), storageId,
+                        Timestamp.valueOf(previous.takenAt()), Timestamp.valueOf(takenAt))
+                : jdbcTemplate.update(LINES_FROM_KEEPING_SQL, id, storageId, storageId, Timestamp.valueOf(takenAt));
+        jdbcTemplate.update(UPDATE_LINE_COUNT_SQL, lines, id);
+        return id;
+    }
+
+    public List<InventoryLine> replayForward(SnapshotRef snapshot, Long storageId, LocalDateTime to) {
+        return jdbcTemplate.query(REPLAY_FORWARD_SQL, INVENTORY_LINE, snapshot.id(), storageId,
+                Timestamp.valueOf(snapshot.takenAt()), Timestamp.valueOf(to));
+    }
+
+    public List<InventoryLine> replayBackward(SnapshotRef snapshot, Long storageId, LocalDateTime to) {
+        return jdbcTemplate.query(REPLAY_BACKWARD_SQL, INVENTORY_LINE, snapshot.id(), storageId,
+                Timestamp.valueOf(to), Timestamp.valueOf(snapshot.takenAt()));
+    }
+
+    public List<InventoryLine> replayFromKeeping(Long storageId, LocalDateTime to) {
+        return jdbcTemplate.query(REPLAY_FROM_KEEPING_SQL, INVENTORY_LINE, storageId, storageId, Timestamp.valueOf(to));
+    }
+
+    public record SnapshotRef(long id, LocalDateTime takenAt) {
+    }
+
+    public record InventoryLine(long itemId, int quantity) {
+    }
+}
@@ -5,6 +5,7 @@ import com.example.warehouse.enumeration.MaintenanceStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -13,13 +14,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
-public interface ItemMaintenanceRepository extends JpaRepository<ItemMaintenance, Long> {
-
-    Page<ItemMaintenance> findByItemId(Long itemId, Pageable pageable);
-
-    Page<ItemMaintenance> findByStatus(MaintenanceStatus status, Pageable pageable);
-
-    Page<ItemMaintenance> findByItemIdAndStatus(Long itemId, MaintenanceStatus status, Pageable pageable);
+public interface ItemMaintenanceRepository extends JpaRepository<ItemMaintenance, Long>, JpaSpecificationExecutor<ItemMaintenance> {
 
     Page<ItemMaintenance> findByTechnicianId(Long technicianId, Pageable pageable);
 
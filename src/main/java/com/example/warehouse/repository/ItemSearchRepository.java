@@ -0,0 +1,62 @@
+package com.example.warehouse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Ranked item search over the generated {@code search_vector} column (name weighted above
+ * description, GIN indexed) and a prefix match on the upper-cased serial number
+ * (text_pattern_ops index). Both predicates are index scans combined with a BitmapOr.
+ * <p>
+ * Ranking needs every candidate before the first row can be returned, so seeking on
+ * (rank, id) only saves re-sending earlier rows, not the ranking. Each query therefore ranks
+ * at most {@code maxCandidates} matches in index order. A query matching more than that,
+ * such as a one-letter prefix, is ranked within that subset only, which keeps every page
+ * bounded regardless of table size.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemSearchRepository {
+
+    private static final String HITS_SQL = "SELECT c.id, (ts_rank(c.search_vector, c.query) + " +
+            "CASE WHEN upper(c.serial_number) LIKE ? THEN 1 ELSE 0 END)::real AS rank FROM (" +
+            "SELECT i.id, i.search_vector, i.serial_number, query FROM items i, to_tsquery('simple', ?) query " +
+            "WHERE i.search_vector @@ query OR upper(i.serial_number) LIKE ? LIMIT ?) c";
+
+    private static final String FIRST_PAGE_SQL = "SELECT id, rank FROM (" + HITS_SQL + ") hits " +
+            "ORDER BY rank DESC, id LIMIT ?";
+
+    private static final String NEXT_PAGE_SQL = "SELECT id, rank FROM (" + HITS_SQL + ") hits " +
+            "WHERE rank < CAST(? AS real) OR (rank = CAST(? AS real) AND id > ?) " +
+            "ORDER BY rank DESC, id LIMIT ?";
+
+    private static final RowMapper<SearchHit> SEARCH_HIT = (rs, i) -> new SearchHit(rs.getLong("id"), rs.getFloat("rank"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns up to {@code limit} hits ordered by rank, then id, out of at most
+     * {@code maxCandidates} ranked matches. {@code after} is the last hit of the previous page,
+     * or null for the first page.
+     */
+    public List<SearchHit> search(String tsQuery, String serialPrefix, SearchHit after, int limit, int maxCandidates) {
+        String serialPattern = escapeLike(serialPrefix.toUpperCase()) + "%";
+        if (after == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, SEARCH_HIT, serialPattern, tsQuery, serialPattern,
+                    maxCandidates, limit);
+        }
+        return jdbcTemplate.query(NEXT_PAGE_SQL, SEARCH_HIT, serialPattern, tsQuery, serialPattern, maxCandidates,
+                after.rank(), after.rank(), after.id(), limit);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    public record SearchHit(long id, float rank) {
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.warehouse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Leases in {@code job_leases} elect a single runner per job across replicas. A lease is
+ * taken with one upsert that only overwrites the row when the previous lease has lapsed or
+ * already belongs to the caller, so two instances can never both see a successful acquire.
+ * Times come from the database clock to keep replicas with skewed clocks consistent.
+ */
+@Repository
+@RequiredArgsConstructor
+public class JobLeaseRepository {
+
+    private static final String ACQUIRE_SQL = "INSERT INTO job_leases (job_name, owner, lease_until, acquired_at) " +
+            "VALUES (?, ?, LOCALTIMESTAMP + ? * INTERVAL '1 second', LOCALTIMESTAMP) " +
+            "ON CONFLICT (job_name) DO UPDATE SET owner = EXCLUDED.owner, " +
+            "lease_until = EXCLUDED.lease_until, acquired_at = EXCLUDED.acquired_at " +
+            "WHERE job_leases.lease_until < LOCALTIMESTAMP OR job_leases.owner = EXCLUDED.owner";
+
+    private static final String RELEASE_SQL = "UPDATE job_leases SET lease_until = LOCALTIMESTAMP " +
+            "WHERE job_name = ? AND owner = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public boolean tryAcquire(String jobName, String owner, long leaseSeconds) {
+        return jdbcTemplate.update(ACQUIRE_SQL, jobName, owner, leaseSeconds) == 1;
+    }
+
+    public void release(String jobName, String owner) {
+        jdbcTemplate.update(RELEASE_SQL, jobName, owner);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.warehouse.repository;
+
+import com.example.warehouse.entity.JobRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, Long>, JpaSpecificationExecutor<JobRun> {
+}
@@ -1,9 +1,10 @@
 package com.example.warehouse.repository;
 
 import com.example.warehouse.entity.Keeping;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,15 +13,11 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface KeepingRepository extends JpaRepository<Keeping, Long> {
-
-    boolean existsByStorageIdAndItemId(Long storageId, Long itemId);
+public interface KeepingRepository extends JpaRepository<Keeping, Long>, JpaSpecificationExecutor<Keeping> {
 
     boolean existsByStorageIdAndItemIdAndIdNot(Long storageId, Long itemId, Long id);
 
-    Page<Keeping> findByStorageId(Long storageId, Pageable pageable);
-
-    Page<Keeping> findByItemId(Long itemId, Pageable pageable);
-
-    Page<Keeping> findByStorageIdAndItemId(Long storageId, Long itemId, Pageable pageable);
-}
\ No newline at end of file
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT k FROM Keeping k WHERE k.id = :id")
+    Optional<Keeping> findByIdForUpdate(@Param("id") Long id);
+}
@@ -0,0 +1,81 @@
+package com.example.warehouse.repository;
+
+import com.example.warehouse.enumeration.BorrowStatus;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.MaintenanceStatus;
+import com.example.warehouse.enumeration.RoleType;
+import com.example.warehouse.enumeration.TransportStatus;
+import com.example.warehouse.enumeration.VehicleStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Dashboard counts, one GROUP BY per family. Every value of the enum is present in the
+ * result, with zero when no row has it, so callers never see a missing key.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StatisticsRepository {
+
+    private static final String USERS_BY_ROLE_SQL = "SELECT role, COUNT(*) FROM users GROUP BY role";
+    private static final String BORROWINGS_BY_STATUS_SQL = "SELECT status, COUNT(*) FROM borrowings GROUP BY status";
+    private static final String TRANSPORTATIONS_BY_STATUS_SQL = "SELECT status, COUNT(*) FROM transportations GROUP BY status";
+    private static final String MAINTENANCE_BY_STATUS_SQL = "SELECT status, COUNT(*) FROM item_maintenance GROUP BY status";
+    private static final String VEHICLES_BY_STATUS_SQL = "SELECT status, COUNT(*) FROM vehicles GROUP BY status";
+    private static final String ITEMS_BY_TYPE_AND_CONDITION_SQL = "SELECT type, condition, COUNT(*) FROM items " +
+            "GROUP BY type, condition";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Map<RoleType, Long> countUsersByRole() {
+        return countBy(USERS_BY_ROLE_SQL, RoleType.class);
+    }
+
+    public Map<BorrowStatus, Long> countBorrowingsByStatus() {
+        return countBy(BORROWINGS_BY_STATUS_SQL, BorrowStatus.class);
+    }
+
+    public Map<TransportStatus, Long> countTransportationsByStatus() {
+        return countBy(TRANSPORTATIONS_BY_STATUS_SQL, TransportStatus.class);
+    }
+
+    public Map<MaintenanceStatus, Long> countMaintenanceByStatus() {
+        return countBy(MAINTENANCE_BY_STATUS_SQL, MaintenanceStatus.class);
+    }
+
+    public Map<VehicleStatus, Long> countVehiclesByStatus() {
+        return countBy(VEHICLES_BY_STATUS_SQL, VehicleStatus.class);
+    }
+
+    public Map<ItemType, Map<ItemCondition, Long>> countItemsByTypeAndCondition() {
+        Map<ItemType, Map<ItemCondition, Long>> counts = new EnumMap<>(ItemType.class);
+        for (ItemType type : ItemType.values()) {
+            counts.put(type, zeros(ItemCondition.class));
+        }
+        jdbcTemplate.query(ITEMS_BY_TYPE_AND_CONDITION_SQL, rs -> {
+            counts.get(ItemType.valueOf(rs.getString(1))).put(ItemCondition.valueOf(rs.getString(2)), rs.getLong(3));
+        });
+        return counts;
+    }
+
+    private <E extends Enum<E>> Map<E, Long> countBy(String sql, Class<E> type) {
+        Map<E, Long> counts = zeros(type);
+        jdbcTemplate.query(sql, rs -> {
+            counts.put(Enum.valueOf(type, rs.getString(1)), rs.getLong(2));
+        });
+        return counts;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeros(Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.warehouse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.OptionalInt;
+
+/**
+ * Applies stock deltas to {@code keeping} as single atomic statements. The row lock taken by
+ * the UPDATE serialises concurrent writers on the same (storage, item) inside the database,
+ * so there is no read-modify-write window to lose updates in and no optimistic retries.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockLedgerRepository {
+
+    private static final String INCREASE_SQL = "INSERT INTO keeping (storage_id, item_id, quantity, last_updated) " +
+            "VALUES (?, ?, ?, LOCALTIMESTAMP) " +
+            "ON CONFLICT (storage_id, item_id) DO UPDATE SET quantity = keeping.quantity + EXCLUDED.quantity, " +
+            "last_updated = EXCLUDED.last_updated " +
+            "RETURNING quantity";
+
+    // xmax is 0 only for a row version this statement inserted, which tells a new keeping row apart from a top-up.
+    private static final String UPSERT_SQL = "INSERT INTO keeping (storage_id, item_id, quantity, shelf, last_updated) " +
+            "VALUES (?, ?, ?, ?, LOCALTIMESTAMP) " +
+            "ON CONFLICT (storage_id, item_id) DO UPDATE SET quantity = keeping.quantity + EXCLUDED.quantity, " +
+            "shelf = COALESCE(EXCLUDED.shelf, keeping.shelf), last_updated = EXCLUDED.last_updated " +
+            "RETURNING id, quantity, shelf, last_updated, (xmax = 0) AS inserted";
+
+    private static final String DECREASE_SQL = "UPDATE keeping SET quantity = quantity - ?, last_updated = LOCALTIMESTAMP " +
+            "WHERE storage_id = ? AND item_id = ? AND quantity >= ? " +
+            "RETURNING quantity";
+
+    private static final String QUANTITY_SQL = "SELECT quantity FROM keeping WHERE storage_id = ? AND item_id = ?";
+
+    private static final String EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM keeping WHERE storage_id = ? AND item_id = ?)";
+
+    private static final RowMapper<KeepingUpsert> KEEPING_UPSERT = (rs, i) -> new KeepingUpsert(
+            rs.getLong("id"), rs.getInt("quantity"), rs.getString("shelf"),
+            rs.getTimestamp("last_updated").toLocalDateTime(), rs.getBoolean("inserted"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Adds {@code quantity} to the keeping row, creating it when the item is not kept in the
+     * storage yet. Returns the quantity after the change.
+     */
+    public int increase(Long storageId, Long itemId, int quantity) {
+        return jdbcTemplate.queryForObject(INCREASE_SQL, Integer.class, storageId, itemId, quantity);
+    }
+
+    /**
+     * Creates the keeping row or, when the item is already kept in the storage, adds
+     * {@code quantity} to it in the same statement. A non-null {@code shelf} replaces the
+     * stored one.
+     */
+    public KeepingUpsert upsert(Long storageId, Long itemId, int quantity, String shelf) {
+        return jdbcTemplate.queryForObject(UPSERT_SQL, KEEPING_UPSERT, storageId, itemId, quantity, shelf);
+    }
+
+    /**
+     * Subtracts {@code quantity} only when enough stock is kept. Returns the quantity after
+     * the change, or empty when the row is missing or would go negative.
+     */
+    public OptionalInt decrease(Long storageId, Long itemId, int quantity) {
+        List<Integer> result = jdbcTemplate.queryForList(DECREASE_SQL, Integer.class, quantity, storageId, itemId, quantity);
+        return result.isEmpty() ? OptionalInt.empty() : OptionalInt.of(result.get(0));
+    }
+
+    public OptionalInt findQuantity(Long storageId, Long itemId) {
+        List<Integer> result = jdbcTemplate.queryForList(QUANTITY_SQL, Integer.class, storageId, itemId);
+        return result.isEmpty() ? OptionalInt.empty() : OptionalInt.of(result.get(0));
+    }
+
+    public boolean exists(Long storageId, Long itemId) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(EXISTS_SQL, Boolean.class, storageId, itemId));
+    }
+
+    public record KeepingUpsert(long id, int quantity, String shelf, LocalDateTime lastUpdated, boolean inserted) {
+    }
+}
@@ -1,9 +1,8 @@
 package com.example.warehouse.repository;
 
 import com.example.warehouse.entity.Storage;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -12,12 +11,13 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface StorageRepository extends JpaRepository<Storage, Long> {
+public interface StorageRepository extends JpaRepository<Storage, Long>, JpaSpecificationExecutor<Storage> {
 
     boolean existsByName(String name);
 
-    Page<Storage> findByNameContainingIgnoreCase(String name, Pageable pageable);
-
     @Query("SELECT COUNT(k) FROM Keeping k WHERE k.storage.id = :storageId")
     long countKeepingsByStorageId(@Param("storageId") Long storageId);
+
+    @Query("SELECT s.id FROM Storage s ORDER BY s.id")
+    List<Long> findAllIds();
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.warehouse.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Per-table change counters kept by the {@code bump_table_change} statement triggers. The
+ * counter of a table only grows and becomes visible together with the write that bumped it,
+ * so an unchanged version means no committed write to the table since it was read.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TableChangeRepository {
+
+    private static final String CURRENT_SQL = "SELECT COALESCE(SUM(version), 0) FROM table_changes WHERE table_name = ANY (?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the combined version of {@code tables}.
+     */
+    public long current(String... tables) {
+        return jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(CURRENT_SQL);
+            statement.setArray(1, connection.createArrayOf("varchar", tables));
+            return statement;
+        }, rs -> {
+            rs.next();
+            return rs.getLong(1);
+        });
+    }
+}
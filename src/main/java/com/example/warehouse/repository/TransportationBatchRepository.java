@@ -0,0 +1,172 @@
+package com.example.warehouse.repository;
+
+import com.example.warehouse.entity.Transportation;
+import com.example.warehouse.enumeration.TransportStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Set-based JDBC access for batch transportation planning: one round trip per lookup
+ * and one batched insert, instead of a query per row.
+ */
+@Repository
+@RequiredArgsConstructor
+public class TransportationBatchRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO transportations " +
+            "(item_id, vehicle_id, driver_id, from_storage_id, to_storage_id, quantity, status, " +
+            "scheduled_departure, scheduled_arrival, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String CONFLICTS_SQL = "SELECT c.idx, " +
+            "EXISTS (SELECT 1 FROM transportations t WHERE t.driver_id = c.driver_id " +
+            "AND t.status IN ('PLANNED', 'IN_TRANSIT', 'DELAYED') " +
+            "AND t.schedule && tsrange(c.starts_at, c.ends_at, '[)')) AS driver_busy, " +
+            "EXISTS (SELECT 1 FROM transportations t WHERE t.vehicle_id = c.vehicle_id " +
+            "AND t.status IN ('PLANNED', 'IN_TRANSIT', 'DELAYED') " +
+            "AND t.schedule && tsrange(c.starts_at, c.ends_at, '[)')) AS vehicle_busy " +
+            "FROM unnest(?, ?, ?, ?, ?) AS c(idx, driver_id, vehicle_id, starts_at, ends_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Set<Long> findExistingItemIds(Collection<Long> ids) {
+        return findExistingIds("items", ids);
+    }
+
+    public Set<Long> findExistingVehicleIds(Collection<Long> ids) {
+        return findExistingIds("vehicles", ids);
+    }
+
+    public Set<Long> findExistingUserIds(Collection<Long> ids) {
+        return findExistingIds("users", ids);
+    }
+
+    public Set<Long> findExistingStorageIds(Collection<Long> ids) {
+        return findExistingIds("storages", ids);
+    }
+
+    /**
+     * Checks every scheduled row of the batch against already booked driver and vehicle
+     * windows in a single statement. Keys of the result are positions in {@code batch};
+     * only rows with a conflict are present.
+     */
+    public Map<Integer, ScheduleConflict> findScheduleConflicts(List<Transportation> batch) {
+        Map<Integer, ScheduleConflict> conflicts = new HashMap<>();
+        if (batch.isEmpty()) {
+            return conflicts;
+        }
+
+        Integer[] indexes = new Integer[batch.size()];
+        Long[] driverIds = new Long[batch.size()];
+        Long[] vehicleIds = new Long[batch.size()];
+        Timestamp[] starts = new Timestamp[batch.size()];
+        Timestamp[] ends = new Timestamp[batch.size()];
+        for (int i = 0; i < batch.size(); i++) {
+            Transportation transportation = batch.get(i);
+            indexes[i] = i;
+            driverIds[i] = transportation.getDriver().getId();
+            vehicleIds[i] = transportation.getVehicle().getId();
+            starts[i] = Timestamp.valueOf(transportation.getScheduledDeparture());
+            ends[i] = Timestamp.valueOf(transportation.getScheduledArrival());
+        }
+
+        jdbcTemplate.query(CONFLICTS_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("integer", indexes));
+            ps.setArray(2, ps.getConnection().createArrayOf("bigint", driverIds));
+            ps.setArray(3, ps.getConnection().createArrayOf("bigint", vehicleIds));
+            ps.setArray(4, ps.getConnection().createArrayOf("timestamp", starts));
+            ps.setArray(5, ps.getConnection().createArrayOf("timestamp", ends));
+        }, rs -> {
+            boolean driverBusy = rs.getBoolean("driver_busy");
+            boolean vehicleBusy = rs.getBoolean("vehicle_busy");
+            if (driverBusy || vehicleBusy) {
+                conflicts.put(rs.getInt("idx"), new ScheduleConflict(driverBusy, vehicleBusy));
+            }
+        });
+        return conflicts;
+    }
+
+    /**
+     * Inserts the rows as a single JDBC batch and writes the generated ids back onto them.
+     */
+    public void insertAll(List<Transportation> transportations) {
+        if (transportations.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.batchUpdate(con -> con.prepareStatement(INSERT_SQL, new String[]{"id"}),
+                new BatchPreparedStatementSetter() {
+                    @Override
+                    public void setValues(PreparedStatement ps, int i) throws SQLException {
+                        Transportation transportation = transportations.get(i);
+                        ps.setLong(1, transportation.getItem().getId());
+                        ps.setLong(2, transportation.getVehicle().getId());
+                        ps.setLong(3, transportation.getDriver().getId());
+                        ps.setLong(4, transportation.getFromStorage().getId());
+                        ps.setLong(5, transportation.getToStorage().getId());
+                        ps.setInt(6, transportation.getQuantity());
+                        ps.setString(7, TransportStatus.PLANNED.name());
+                        setTimestamp(ps, 8, transportation.getScheduledDeparture());
+                        setTimestamp(ps, 9, transportation.getScheduledArrival());
+                        ps.setTimestamp(10, Timestamp.valueOf(now));
+                    }
+
+                    @Override
+                    public int getBatchSize() {
+                        return transportations.size();
+                    }
+                }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        for (int i = 0; i < transportations.size(); i++) {
+            Transportation transportation = transportations.get(i);
+            transportation.setId(((Number) keys.get(i).get("id")).longValue());
+            transportation.setStatus(TransportStatus.PLANNED);
+            transportation.setCreatedAt(now);
+        }
+    }
+
+    private Set<Long> findExistingIds(String table, Collection<Long> ids) {
+        Set<Long> existing = new HashSet<>();
+        if (ids.isEmpty()) {
+            return existing;
+        }
+
+        jdbcTemplate.query("SELECT id FROM " + table + " WHERE id = ANY(?)", ps -> {
+            Array array = ps.getConnection().createArrayOf("bigint", ids.toArray());
+            ps.setArray(1, array);
+        }, rs -> {
+            existing.add(rs.getLong(1));
+        });
+        return existing;
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (value != null) {
+            ps.setTimestamp(index, Timestamp.valueOf(value));
+        } else {
+            ps.setNull(index, Types.TIMESTAMP);
+        }
+    }
+
+    public record ScheduleConflict(boolean driverBusy, boolean vehicleBusy) {
+    }
+}
@@ -4,52 +4,48 @@ import com.example.warehouse.entity.Transportation;
 import com.example.warehouse.enumeration.TransportStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface TransportationRepository extends JpaRepository<Transportation, Long> {
+public interface TransportationRepository extends JpaRepository<Transportation, Long>, JpaSpecificationExecutor<Transportation> {
 
-    Page<Transportation> findByStatus(TransportStatus status, Pageable pageable);
-
-    Page<Transportation> findByItemId(Long itemId, Pageable pageable);
-
-    Page<Transportation> findByFromStorageId(Long fromStorageId, Pageable pageable);
-
-    Page<Transportation> findByToStorageId(Long toStorageId, Pageable pageable);
-
-    Page<Transportation> findByStatusAndItemId(TransportStatus status, Long itemId, Pageable pageable);
-
-    Page<Transportation> findByStatusAndFromStorageId(TransportStatus status, Long fromStorageId, Pageable pageable);
-
-    Page<Transportation> findByStatusAndToStorageId(TransportStatus status, Long toStorageId, Pageable pageable);
-
-    Page<Transportation> findByItemIdAndFromStorageId(Long itemId, Long fromStorageId, Pageable pageable);
-
-    Page<Transportation> findByStatusAndItemIdAndFromStorageIdAndToStorageId(
-            TransportStatus status, Long itemId, Long fromStorageId, Long toStorageId, Pageable pageable);
-
-    @Query("SELECT t FROM Transportation t WHERE t.status = 'IN_PROGRESS' AND t.scheduledArrival < :now")
+    @Query("SELECT t FROM Transportation t WHERE t.status IN ('IN_TRANSIT', 'DELAYED') AND t.scheduledArrival < :now")
     Page<Transportation> findOverdueTransportations(@Param("now") LocalDateTime now, Pageable pageable);
 
-    @Query("SELECT CASE WHEN COUNT(t) = 0 THEN true ELSE false END FROM Transportation t " +
-            "WHERE t.driver.id = :driverId AND t.status IN ('PLANNED', 'IN_PROGRESS') " +
-            "AND ((t.scheduledDeparture BETWEEN :start AND :end) OR (t.scheduledArrival BETWEEN :start AND :end))")
+    @Query(value = "SELECT NOT EXISTS (SELECT 1 FROM transportations t " +
+            "WHERE t.driver_id = :driverId AND t.status IN ('PLANNED', 'IN_TRANSIT', 'DELAYED') " +
+            "AND t.schedule && tsrange(CAST(:start AS timestamp), CAST(:end AS timestamp), '[)'))", nativeQuery = true)
     boolean isDriverAvailable(@Param("driverId") Long driverId,
                               @Param("start") LocalDateTime start,
                               @Param("end") LocalDateTime end);
 
-    @Query("SELECT CASE WHEN COUNT(t) = 0 THEN true ELSE false END FROM Transportation t " +
-            "WHERE t.vehicle.id = :vehicleId AND t.status IN ('PLANNED', 'IN_PROGRESS') " +
-            "AND ((t.scheduledDeparture BETWEEN :start AND :end) OR (t.scheduledArrival BETWEEN :start AND :end))")
+    @Query(value = "SELECT NOT EXISTS (SELECT 1 FROM transportations t " +
+            "WHERE t.vehicle_id = :vehicleId AND t.status IN ('PLANNED', 'IN_TRANSIT', 'DELAYED') " +
+            "AND t.schedule && tsrange(CAST(:start AS timestamp), CAST(:end AS timestamp), '[)'))", nativeQuery = true)
     boolean isVehicleAvailable(@Param("vehicleId") Long vehicleId,
                                @Param("start") LocalDateTime start,
                                @Param("end") LocalDateTime end);
 
     long countByStatus(TransportStatus status);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Transportation t WHERE t.id = :id")
+    Optional<Transportation> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = "UPDATE transportations SET status = 'DELAYED' WHERE id IN (" +
+            "SELECT id FROM transportations WHERE status = 'IN_TRANSIT' AND scheduled_arrival < :now " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED)", nativeQuery = true)
+    int markDelayedBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
\ No newline at end of file
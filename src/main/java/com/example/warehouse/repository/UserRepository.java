@@ -1,28 +1,16 @@
 package com.example.warehouse.repository;
 
 import com.example.warehouse.entity.User;
-import com.example.warehouse.enumeration.RoleType;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
-import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificationExecutor<User> {
     
     Optional<User> findByEmail(String email);
     
     boolean existsByEmail(String email);
-    
-    List<User> findByRole(RoleType role);
-    
-    List<User> findByLastNameContainingIgnoreCase(String lastName);
-    
-    @Query("SELECT u FROM User u WHERE u.createdAt >= :startDate AND u.createdAt <= :endDate")
-    List<User> findUsersCreatedBetween(@Param("startDate") LocalDateTime startDate, 
-                                      @Param("endDate") LocalDateTime endDate);
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.example.warehouse.repository;
+
+import com.example.warehouse.entity.UserStorageAccess;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.OptionalLong;
+
+/**
+ * Inserts access grants against the (user_id, storage_id) unique constraint instead of
+ * checking for an existing grant first, so concurrent grants for the same pair cannot
+ * both succeed and the insert stays a single round trip.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserStorageAccessGrantRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO user_storage_access " +
+            "(user_id, storage_id, access_level, granted_by, granted_at, expires_at, is_active) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (user_id, storage_id) DO NOTHING RETURNING id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the id of the new grant, or empty when the user already has a grant for the
+     * storage.
+     */
+    public OptionalLong insertIfAbsent(UserStorageAccess access) {
+        List<Long> ids = jdbcTemplate.queryForList(INSERT_SQL, Long.class,
+                access.getUser().getId(),
+                access.getStorage().getId(),
+                access.getAccessLevel() != null ? access.getAccessLevel().name() : null,
+                access.getGrantedBy().getId(),
+                Timestamp.valueOf(access.getGrantedAt()),
+                access.getExpiresAt() != null ? Timestamp.valueOf(access.getExpiresAt()) : null,
+                access.getIsActive());
+        return ids.isEmpty() ? OptionalLong.empty() : OptionalLong.of(ids.get(0));
+    }
+}
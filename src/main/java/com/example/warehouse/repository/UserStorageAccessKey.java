@@ -0,0 +1,4 @@
+package com.example.warehouse.repository;
+
+public record UserStorageAccessKey(Long id, Long userId, Long storageId) {
+}
@@ -1,10 +1,10 @@
 package com.example.warehouse.repository;
 
 import com.example.warehouse.entity.UserStorageAccess;
-import com.example.warehouse.enumeration.AccessLevel;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -14,45 +14,12 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserStorageAccessRepository extends JpaRepository<UserStorageAccess, Long> {
-
-    boolean existsByUserIdAndStorageId(Long userId, Long storageId);
+public interface UserStorageAccessRepository extends JpaRepository<UserStorageAccess, Long>, JpaSpecificationExecutor<UserStorageAccess> {
 
     boolean existsByUserIdAndStorageIdAndIdNot(Long userId, Long storageId, Long id);
 
     Optional<UserStorageAccess> findByUserIdAndStorageId(Long userId, Long storageId);
 
-    Page<UserStorageAccess> findByUserId(Long userId, Pageable pageable);
-
-    Page<UserStorageAccess> findByStorageId(Long storageId, Pageable pageable);
-
-    Page<UserStorageAccess> findByAccessLevel(AccessLevel accessLevel, Pageable pageable);
-
-    Page<UserStorageAccess> findByIsActive(Boolean isActive, Pageable pageable);
-
-    Page<UserStorageAccess> findByUserIdAndStorageId(Long userId, Long storageId, Pageable pageable);
-
-    Page<UserStorageAccess> findByUserIdAndAccessLevel(Long userId, AccessLevel accessLevel, Pageable pageable);
-
-    Page<UserStorageAccess> findByUserIdAndIsActive(Long userId, Boolean isActive, Pageable pageable);
-
-    Page<UserStorageAccess> findByStorageIdAndAccessLevel(Long storageId, AccessLevel accessLevel, Pageable pageable);
-
-    Page<UserStorageAccess> findByStorageIdAndIsActive(Long storageId, Boolean isActive, Pageable pageable);
-
-    Page<UserStorageAccess> findByAccessLevelAndIsActive(AccessLevel accessLevel, Boolean isActive, Pageable pageable);
-
-    Page<UserStorageAccess> findByUserIdAndStorageIdAndAccessLevel(Long userId, Long storageId, AccessLevel accessLevel, Pageable pageable);
-
-    Page<UserStorageAccess> findByUserIdAndStorageIdAndIsActive(Long userId, Long storageId, Boolean isActive, Pageable pageable);
-
-    Page<UserStorageAccess> findByUserIdAndAccessLevelAndIsActive(Long userId, AccessLevel accessLevel, Boolean isActive, Pageable pageable);
-
-    Page<UserStorageAccess> findByStorageIdAndAccessLevelAndIsActive(Long storageId, AccessLevel accessLevel, Boolean isActive, Pageable pageable);
-
-    Page<UserStorageAccess> findByUserIdAndStorageIdAndAccessLevelAndIsActive(
-            Long userId, Long storageId, AccessLevel accessLevel, Boolean isActive, Pageable pageable);
-
     List<UserStorageAccess> findByUserId(Long userId);
 
     List<UserStorageAccess> findByStorageId(Long storageId);
@@ -60,6 +27,14 @@ public interface UserStorageAccessRepository extends JpaRepository<UserStorageAc
     @Query("SELECT usa FROM UserStorageAccess usa WHERE usa.expiresAt < :now AND usa.isActive = true")
     List<UserStorageAccess> findExpiredAccesses(@Param("now") LocalDateTime now);
 
+    @Query("SELECT new com.example.warehouse.repository.UserStorageAccessKey(usa.id, usa.user.id, usa.storage.id) " +
+            "FROM UserStorageAccess usa WHERE usa.isActive = true AND usa.expiresAt < :now ORDER BY usa.expiresAt, usa.id")
+    List<UserStorageAccessKey> findExpiredAccessKeys(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE UserStorageAccess usa SET usa.isActive = false WHERE usa.id IN :ids AND usa.isActive = true")
+    int deactivateByIds(@Param("ids") List<Long> ids);
+
     long countByUserIdAndIsActive(Long userId, Boolean isActive);
 
     long countByStorageIdAndIsActive(Long storageId, Boolean isActive);
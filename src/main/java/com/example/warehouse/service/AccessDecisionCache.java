@@ -0,0 +1,179 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.entity.UserStorageAccess;
+import com.example.warehouse.enumeration.AccessLevel;
+import com.example.warehouse.event.UserStorageAccessChangedEvent;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Direct-mapped cache of (userId, storageId) access decisions. Each pair hashes to one
+ * slot of a fixed-size array, so the cache never grows and a colliding pair simply
+ * replaces the previous occupant. Entries are dropped on any write to the underlying
+ * access row, once the grant's expiresAt passes, and after a TTL that bounds staleness
+ * caused by writes on other instances.
+ *
+ * <p>Every eviction bumps a per-slot generation. A caller takes {@link #generation} before
+ * reading the access row and hands it to {@link #put}, which drops the decision if the slot
+ * was evicted in between, so a decision read before a write can never outlive the write's
+ * eviction.
+ */
+@Component
+public class AccessDecisionCache implements MeterBinder {
+
+    private final AtomicReferenceArray<Decision> slots;
+    private final AtomicLongArray generations;
+    private final int mask;
+    private final long ttlMillis;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public AccessDecisionCache(@Value("${warehouse.access-cache.capacity:65536}") int capacity,
+                               @Value("${warehouse.access-cache.ttl-seconds:60}") long ttlSeconds) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.generations = new AtomicLongArray(size);
+        this.mask = size - 1;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    }
+
+    public Decision get(long userId, long storageId) {
+        int slot = slot(userId, storageId);
+        Decision decision = slots.get(slot);
+        if (decision != null && decision.matches(userId, storageId)) {
+            long now = System.currentTimeMillis();
+            if (now < decision.cachedUntil && now < decision.expiresAt) {
+                hits.increment();
+                return decision;
+            }
+            slots.compareAndSet(slot, decision, null);
+        }
+        misses.increment();
+        return null;
+    }
+
+    public long generation(long userId, long storageId) {
+        return generations.get(slot(userId, storageId));
+    }
+
+    /**
+     * Caches the decision for {@code access} unless the slot was evicted since
+     * {@code generation} was taken. The decision is returned either way.
+     */
+    public Decision put(long userId, long storageId, UserStorageAccess access, long generation) {
+        long now = System.currentTimeMillis();
+        AccessLevel level = null;
+        long expiresAt = Long.MAX_VALUE;
+
+        if (access != null && Boolean.TRUE.equals(access.getIsActive())) {
+            long accessExpiresAt = access.getExpiresAt() != null ? toEpochMillis(access.getExpiresAt()) : Long.MAX_VALUE;
+            if (accessExpiresAt > now) {
+                level = access.getAccessLevel();
+                expiresAt = accessExpiresAt;
+            }
+        }
+
+        Decision decision = new Decision(userId, storageId, level, expiresAt, now + ttlMillis);
+        int slot = slot(userId, storageId);
+        if (generations.get(slot) == generation) {
+            slots.set(slot, decision);
+            // An eviction between the check and the set has bumped the generation by now
+            // (or will clear the slot after this point), so re-check and back out.
+            if (generations.get(slot) != generation) {
+                slots.compareAndSet(slot, decision, null);
+            }
+        }
+        return decision;
+    }
+
+    public void evict(long userId, long storageId) {
+        int slot = slot(userId, storageId);
+        generations.incrementAndGet(slot);
+        Decision decision = slots.get(slot);
+        if (decision != null && decision.matches(userId, storageId)) {
+            slots.compareAndSet(slot, decision, null);
+        }
+    }
+
+    public void evict(UserStorageAccess access) {
+        if (access != null && access.getUser() != null && access.getStorage() != null
+                && access.getUser().getId() != null && access.getStorage().getId() != null) {
+            evict(access.getUser().getId(), access.getStorage().getId());
+        }
+    }
+
+    @EventListener
+    public void onAccessChanged(UserStorageAccessChangedEvent event) {
+        evict(event.userId(), event.storageId());
+    }
+
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            generations.incrementAndGet(i);
+            slots.set(i, null);
+        }
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("warehouse.access.cache.requests", this, AccessDecisionCache::hits)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("warehouse.access.cache.requests", this, AccessDecisionCache::misses)
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    private int slot(long userId, long storageId) {
+        long h = userId * 0x9E3779B97F4A7C15L ^ storageId * 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    public static final class Decision {
+        private final long userId;
+        private final long storageId;
+        private final AccessLevel level;
+        private final long expiresAt;
+        private final long cachedUntil;
+
+        private Decision(long userId, long storageId, AccessLevel level, long expiresAt, long cachedUntil) {
+            this.userId = userId;
+            this.storageId = storageId;
+            this.level = level;
+            this.expiresAt = expiresAt;
+            this.cachedUntil = cachedUntil;
+        }
+
+        public boolean allows(AccessLevel requiredLevel) {
+            return level != null && level.ordinal() >= requiredLevel.ordinal();
+        }
+
+        private boolean matches(long userId, long storageId) {
+            return this.userId == userId && this.storageId == storageId;
+        }
+    }
+}
@@ -8,18 +8,26 @@ import com.example.warehouse.enumeration.ItemCondition;
 import com.example.warehouse.repository.BorrowingRepository;
 import com.example.warehouse.service.interfaces.BorrowingService;
 import com.example.warehouse.service.interfaces.UserService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 import org.springframework.data.jpa.domain.Specification;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import jakarta.persistence.EntityNotFoundException;
 import java.time.LocalDateTime;
-import java.util.List;
+
+import static com.example.warehouse.repository.FilterSpecifications.equal;
+import static com.example.warehouse.repository.FilterSpecifications.equalId;
+import static com.example.warehouse.repository.FilterSpecifications.between;
 
 @Slf4j
 @Service
@@ -29,6 +37,25 @@ public class BorrowingServiceImpl implements BorrowingService {
     private final BorrowingRepository borrowingRepository;
     private final ItemServiceImpl itemService;
     private final UserService userService;
+    private final TransactionTemplate transactionTemplate;
+
+    private static final long OVERDUE_SWEEP_LOCK_KEY = 0x4F56455244554542L;
+
+    @Value("${warehouse.jobs.overdue-borrowings.batch-size:1000}")
+    private int overdueBatchSize;
+
+    @Value("${warehouse.jobs.overdue-borrowings.max-rows:100000}")
+    private int overdueMaxRows;
+
+    @PostConstruct
+    void validateJobSettings() {
+        if (overdueBatchSize < 1) {
+            throw new IllegalStateException("warehouse.jobs.overdue-borrowings.batch-size must be at least 1, was " + overdueBatchSize);
+        }
+        if (overdueMaxRows < 0) {
+            throw new IllegalStateException("warehouse.jobs.overdue-borrowings.max-rows must not be negative, was " + overdueMaxRows);
+        }
+    }
 
     @Override
     public Borrowing getById(Long id) {
@@ -161,70 +188,95 @@ public class BorrowingServiceImpl implements BorrowingService {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "borrowDate"));
 
-        Specification<Borrowing> spec = Specification.unrestricted();
-
-        if (status != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("status"), status));
-        }
-
-        if (userId != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("user").get("id"), userId));
-        }
-
-        if (itemId != null) {
-            spec = spec.and((root, query, cb) -> cb.equal(root.get("item").get("id"), itemId));
-        }
+        return borrowingRepository.findAll(filter(status, userId, itemId, from, to), pageable);
+    }
 
-        if (from != null && to != null) {
-            spec = spec.and((root, query, cb) -> cb.between(root.get("borrowDate"), from, to));
-        } else if (from != null) {
-            spec = spec.and((root, query, cb) -> cb.greaterThanOrEqualTo(root.get("borrowDate"), from));
-        } else if (to != null) {
-            spec = spec.and((root, query, cb) -> cb.lessThanOrEqualTo(root.get("borrowDate"), to));
-        }
+    @Override
+    public Window<Borrowing> scroll(ScrollPosition position, int size, BorrowStatus status, Long userId, Long itemId,
+                                    LocalDateTime from, LocalDateTime to) {
+        log.debug("Scrolling borrowings - size: {}, status: {}, userId: {}, itemId: {}, from: {}, to: {}",
+                size, status, userId, itemId, from, to);
+
+        return borrowingRepository.findBy(filter(status, userId, itemId, from, to), q -> q
+                .sortBy(Sort.by(Sort.Direction.DESC, "borrowDate"))
+                .limit(size)
+                .scroll(position));
+    }
 
-        return borrowingRepository.findAll(spec, pageable);
+    @Override
+    public long count(BorrowStatus status, Long userId, Long itemId, LocalDateTime from, LocalDateTime to) {
+        return borrowingRepository.count(filter(status, userId, itemId, from, to));
     }
 
     @Override
-    
+    @Transactional(readOnly = true)
     public Page<Borrowing> findOverdue(int page, int size) {
         log.debug("Finding overdue borrowings - page: {}, size: {}", page, size);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.ASC, "expectedReturnDate"));
-        LocalDateTime now = LocalDateTime.now();
-
-        Page<Borrowing> overdueBorrowings = borrowingRepository.findOverdueBorrowings(now, pageable);
 
-        List<Borrowing> borrowingsToUpdate = overdueBorrowings.getContent().stream()
-                .filter(b -> b.getStatus() == BorrowStatus.ACTIVE)
-                .toList();
+        // Status flips are left to updateOverdueBorrowings, so this stays a pure read.
+        return borrowingRepository.findOverdueBorrowings(LocalDateTime.now(), pageable);
+    }
 
-        if (!borrowingsToUpdate.isEmpty()) {
-            borrowingsToUpdate.forEach(b -> b.setStatus(BorrowStatus.OVERDUE));
-            borrowingRepository.saveAll(borrowingsToUpdate);
-            log.info("Updated {} borrowings to OVERDUE status", borrowingsToUpdate.size());
-        }
+    @Override
+    @Transactional(readOnly = true)
+    public Window<Borrowing> scrollOverdue(ScrollPosition position, int size) {
+        log.debug("Scrolling overdue borrowings - size: {}", size);
+
+        return borrowingRepository.findBy(overdue(LocalDateTime.now()), q -> q
+                .sortBy(Sort.by(Sort.Direction.ASC, "expectedReturnDate"))
+                .limit(size)
+                .scroll(position));
+    }
 
-        return overdueBorrowings;
+    @Override
+    @Transactional(readOnly = true)
+    public long countOverdue() {
+        return borrowingRepository.count(overdue(LocalDateTime.now()));
     }
 
-    @Scheduled(cron = "0 0 6 * * ?")
-    
-    public void updateOverdueBorrowings() {
-        log.debug("Running scheduled task to update overdue borrowings");
+    @Override
+    public int updateOverdueBorrowings() {
+        log.debug("Updating overdue borrowings");
         LocalDateTime now = LocalDateTime.now();
 
-        List<Borrowing> activeBorrowings = borrowingRepository.findAll()
-                .stream()
-                .filter(b -> b.getStatus() == BorrowStatus.ACTIVE
-                        && b.getExpectedReturnDate().isBefore(now))
-                .toList();
+        int total = 0;
+        while (total < overdueMaxRows) {
+            int limit = Math.min(overdueBatchSize, overdueMaxRows - total);
+            Integer updated = transactionTemplate.execute(tx ->
+                    borrowingRepository.tryAdvisoryXactLock(OVERDUE_SWEEP_LOCK_KEY)
+                            ? borrowingRepository.markOverdueBatch(now, limit)
+                            : null);
+            if (updated == null) {
+                log.info("Overdue borrowings sweep is running on another instance, skipping");
+                break;
+            }
+            total += updated;
+            if (updated < limit) {
+                break;
+            }
+        }
 
-        if (!activeBorrowings.isEmpty()) {
-            activeBorrowings.forEach(b -> b.setStatus(BorrowStatus.OVERDUE));
-            borrowingRepository.saveAll(activeBorrowings);
-            log.info("Updated {} borrowings to OVERDUE status via scheduled task", activeBorrowings.size());
+        if (total > 0) {
+            log.info("Updated {} borrowings to OVERDUE status via scheduled task", total);
         }
+        return total;
+    }
+
+    static Specification<Borrowing> filter(BorrowStatus status, Long userId, Long itemId,
+                                           LocalDateTime from, LocalDateTime to) {
+        return Specification.allOf(
+                equal("status", status),
+                equalId("user", userId),
+                equalId("item", itemId),
+                between("borrowDate", from, to));
+    }
+
+    private static Specification<Borrowing> overdue(LocalDateTime now) {
+        return (root, query, cb) -> cb.or(
+                cb.equal(root.get("status"), BorrowStatus.OVERDUE),
+                cb.and(cb.equal(root.get("status"), BorrowStatus.ACTIVE),
+                        cb.lessThan(root.get("expectedReturnDate"), now)));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,96 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.dto.InventoryLineDTO;
+import com.example.warehouse.dto.StorageInventoryDTO;
+import com.example.warehouse.exception.ValidationException;
+import com.example.warehouse.repository.InventorySnapshotRepository;
+import com.example.warehouse.repository.InventorySnapshotRepository.InventoryLine;
+import com.example.warehouse.repository.InventorySnapshotRepository.SnapshotRef;
+import com.example.warehouse.repository.StorageRepository;
+import com.example.warehouse.service.interfaces.InventoryService;
+import com.example.warehouse.service.interfaces.StorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class InventoryServiceImpl implements InventoryService {
+
+    private final InventorySnapshotRepository inventorySnapshotRepository;
+    private final StorageRepository storageRepository;
+    private final StorageService storageService;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Snapshots are cut this far in the past so that movements still in flight when the job
+     * runs, stamped before the cut but committed after it, are not missed.
+     */
+    @Value("${warehouse.jobs.inventory-snapshots.lag-seconds:300}")
+    private long snapshotLagSeconds;
+
+    /**
+     * Replays from the nearest snapshot at or before {@code asOf}; if {@code asOf} predates
+     * every snapshot of the storage, rolls the first later snapshot back instead, and only
+     * falls back to the live keeping rows when the storage has no snapshot at all.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public StorageInventoryDTO getInventory(Long storageId, LocalDateTime asOf) {
+        log.debug("Fetching inventory of storage ID: {} as of {}", storageId, asOf);
+
+        storageService.getById(storageId);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime at = asOf != null ? asOf : now;
+        if (at.isAfter(now)) {
+            throw new ValidationException("asOf must not be in the future");
+        }
+
+        Optional<SnapshotRef> before = inventorySnapshotRepository.findLatestAtOrBefore(storageId, at);
+        if (before.isPresent()) {
+            return toDTO(storageId, at, before.get(), inventorySnapshotRepository.replayForward(before.get(), storageId, at));
+        }
+        Optional<SnapshotRef> after = inventorySnapshotRepository.findEarliestAfter(storageId, at);
+        if (after.isPresent()) {
+            return toDTO(storageId, at, after.get(), inventorySnapshotRepository.replayBackward(after.get(), storageId, at));
+        }
+        return toDTO(storageId, at, null, inventorySnapshotRepository.replayFromKeeping(storageId, at));
+    }
+
+    @Override
+    public int takeSnapshots() {
+        LocalDateTime takenAt = LocalDateTime.now().minusSeconds(snapshotLagSeconds);
+        log.info("Taking inventory snapshots at {}", takenAt);
+
+        int taken = 0;
+        for (Long storageId : storageRepository.findAllIds()) {
+            Boolean created = transactionTemplate.execute(tx -> {
+                Optional<SnapshotRef> previous = inventorySnapshotRepository.findLatestAtOrBefore(storageId, takenAt);
+                if (previous.isPresent() && !previous.get().takenAt().isBefore(takenAt)) {
+                    return false;
+                }
+                inventorySnapshotRepository.insertSnapshot(storageId, takenAt, previous.orElse(null));
+                return true;
+            });
+            if (Boolean.TRUE.equals(created)) {
+                taken++;
+            }
+        }
+        log.info("Took {} inventory snapshots", taken);
+        return taken;
+    }
+
+    private static StorageInventoryDTO toDTO(Long storageId, LocalDateTime asOf, SnapshotRef snapshot,
+                                             List<InventoryLine> lines) {
+        return new StorageInventoryDTO(storageId, asOf, snapshot != null ? snapshot.takenAt() : null,
+                lines.stream().map(line -> new InventoryLineDTO(line.itemId(), line.quantity())).toList());
+    }
+}
@@ -19,11 +19,17 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
+import static com.example.warehouse.repository.FilterSpecifications.equal;
+import static com.example.warehouse.repository.FilterSpecifications.equalId;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -100,6 +106,21 @@ public class ItemMaintenanceServiceImpl implements ItemMaintenanceService {
         log.info("Item maintenance with ID: {} deleted successfully", id);
     }
 
+    @Override
+    public Window<ItemMaintenance> scroll(ScrollPosition position, int size, Long itemId, MaintenanceStatus status) {
+        log.debug("Scrolling item maintenance - size: {}, itemId: {}, status: {}", size, itemId, status);
+
+        return itemMaintenanceRepository.findBy(filter(itemId, status), q -> q
+                .sortBy(Sort.by(Sort.Direction.DESC, "maintenanceDate"))
+                .limit(size)
+                .scroll(position));
+    }
+
+    @Override
+    public long count(Long itemId, MaintenanceStatus status) {
+        return itemMaintenanceRepository.count(filter(itemId, status));
+    }
+
     @Override
     public Page<ItemMaintenance> findPage(int page, int size, Long itemId, MaintenanceStatus status) {
         log.debug("Fetching item maintenance page - page: {}, size: {}, itemId: {}, status: {}",
@@ -107,19 +128,7 @@ public class ItemMaintenanceServiceImpl implements ItemMaintenanceService {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "maintenanceDate"));
 
-        Page<ItemMaintenance> maintenancePage;
-
-        if (itemId != null && status != null) {
-            maintenancePage = itemMaintenanceRepository.findByItemIdAndStatus(itemId, status, pageable);
-        } else if (itemId != null) {
-            maintenancePage = itemMaintenanceRepository.findByItemId(itemId, pageable);
-        } else if (status != null) {
-            maintenancePage = itemMaintenanceRepository.findByStatus(status, pageable);
-        } else {
-            maintenancePage = itemMaintenanceRepository.findAll(pageable);
-        }
-
-        return maintenancePage;
+        return itemMaintenanceRepository.findAll(filter(itemId, status), pageable);
     }
 
 
@@ -147,4 +156,10 @@ public class ItemMaintenanceServiceImpl implements ItemMaintenanceService {
         itemMaintenanceRepository.save(maintenance);
         log.info("Status updated successfully for item maintenance ID: {}", id);
     }
-}
\ No newline at end of file
+
+    private static Specification<ItemMaintenance> filter(Long itemId, MaintenanceStatus status) {
+        return Specification.allOf(
+                equalId("item", itemId),
+                equal("status", status));
+    }
+}
@@ -1,42 +1,64 @@
 package com.example.warehouse.service;
 
+import com.example.warehouse.entity.Borrowing;
 import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.ItemMaintenance;
+import com.example.warehouse.entity.Keeping;
+import com.example.warehouse.entity.Transportation;
+import com.example.warehouse.enumeration.BorrowStatus;
 import com.example.warehouse.enumeration.ItemCondition;
 import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.MaintenanceStatus;
+import com.example.warehouse.enumeration.TransportStatus;
 import com.example.warehouse.exception.ItemNotFoundException;
 import com.example.warehouse.exception.DuplicateSerialNumberException;
+import com.example.warehouse.exception.ValidationException;
 import com.example.warehouse.repository.ItemRepository;
+import com.example.warehouse.repository.ItemSearchRepository;
+import com.example.warehouse.repository.ItemSearchRepository.SearchHit;
 import com.example.warehouse.service.interfaces.ItemService;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.KeysetScrollPosition;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import static com.example.warehouse.repository.FilterSpecifications.equal;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ItemServiceImpl implements ItemService {
 
     private final ItemRepository itemRepository;
+    private final ItemSearchRepository itemSearchRepository;
+
+    @Value("${warehouse.items.search.max-candidates:1000}")
+    private int searchMaxCandidates;
 
     @Override
     public Item create(Item item) {
         log.info("Creating new item: {}", item.getName());
 
-        if (item.getSerialNumber() != null && !item.getSerialNumber().isEmpty()) {
-            if (itemRepository.existsBySerialNumber(item.getSerialNumber())) {
-                throw new DuplicateSerialNumberException(
-                        "Item with serial number '" + item.getSerialNumber() + "' already exists");
-            }
-        }
         item.setId(null);
-        Item savedItem = itemRepository.save(item);
+        Item savedItem = saveChecked(item);
         log.info("Item created successfully with ID: {}", savedItem.getId());
 
         return savedItem;
@@ -88,6 +110,21 @@ public class ItemServiceImpl implements ItemService {
         log.info("Item with ID: {} deleted successfully", id);
     }
 
+    @Override
+    public Window<Item> scroll(ScrollPosition position, int size, ItemType type, ItemCondition condition) {
+        log.debug("Scrolling items - size: {}, type: {}, condition: {}", size, type, condition);
+
+        return itemRepository.findBy(listFilter(type, condition), q -> q
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(size)
+                .scroll(position));
+    }
+
+    @Override
+    public long count(ItemType type, ItemCondition condition) {
+        return itemRepository.count(listFilter(type, condition));
+    }
+
     @Override
     public Page<Item> findPage(int page, int size, ItemType type, ItemCondition condition) {
         log.debug("Fetching items page - page: {}, size: {}, type: {}, condition: {}",
@@ -95,19 +132,48 @@ public class ItemServiceImpl implements ItemService {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        Page<Item> itemsPage;
+        return itemRepository.findAll(listFilter(type, condition), pageable);
+    }
+
+    /**
+     * Every word of the query is matched as a prefix against name and description, and the
+     * whole query as a prefix of the serial number; serial number hits rank first.
+     */
+    @Override
+    public Window<Item> search(String query, ScrollPosition position, int size) {
+        log.debug("Searching items - query: {}, size: {}", query, size);
 
-        if (type != null && condition != null) {
-            itemsPage = itemRepository.findByTypeAndCondition(type, condition, pageable);
-        } else if (type != null) {
-            itemsPage = itemRepository.findByType(type, pageable);
-        } else if (condition != null) {
-            itemsPage = itemRepository.findByCondition(condition, pageable);
-        } else {
-            itemsPage = itemRepository.findAll(pageable);
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query must not be blank");
+        }
+
+        SearchHit after = null;
+        if (position instanceof KeysetScrollPosition keyset && !keyset.isInitial()) {
+            Object rank = keyset.getKeys().get("rank");
+            Object id = keyset.getKeys().get("id");
+            if (!(rank instanceof Float) || !(id instanceof Long)) {
+                throw new ValidationException("Invalid cursor");
+            }
+            after = new SearchHit((Long) id, (Float) rank);
         }
 
-        return itemsPage;
+        List<SearchHit> hits = itemSearchRepository.search(toPrefixTsQuery(query), query.trim(), after, size + 1,
+                searchMaxCandidates);
+        boolean hasNext = hits.size() > size;
+        List<SearchHit> page = hasNext ? hits.subList(0, size) : hits;
+
+        Map<Long, Item> items = itemRepository.findAllById(page.stream().map(SearchHit::id).toList()).stream()
+                .collect(Collectors.toMap(Item::getId, Function.identity()));
+        // An item deleted between the two queries is skipped rather than returned as null.
+        List<SearchHit> found = page.stream().filter(hit -> items.containsKey(hit.id())).toList();
+        List<Item> content = found.stream().map(hit -> items.get(hit.id())).toList();
+
+        return Window.from(content, i -> {
+            Map<String, Object> keys = new LinkedHashMap<>();
+            keys.put("rank", found.get(i).rank());
+            keys.put("id", found.get(i).id());
+            return ScrollPosition.forward(keys);
+        }, hasNext);
     }
 
     @Override
@@ -116,39 +182,127 @@ public class ItemServiceImpl implements ItemService {
         log.debug("Finding available items - from: {}, to: {}, storageId: {}, type: {}, condition: {}, cursor: {}, limit: {}",
                 from, to, storageId, type, condition, cursor, limit);
 
-        Page<Item> availableItems;
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be greater than zero");
+        }
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+
+        Specification<Item> spec = Specification.unrestricted();
 
         if (cursor != null) {
-            if (type != null && condition != null) {
-                availableItems = itemRepository.findByIdGreaterThanAndTypeAndCondition(
-                        cursor, type, condition, PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "id")));
-            } else if (type != null) {
-                availableItems = itemRepository.findByIdGreaterThanAndType(
-                        cursor, type, PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "id")));
-            } else if (condition != null) {
-                availableItems = itemRepository.findByIdGreaterThanAndCondition(
-                        cursor, condition, PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "id")));
-            } else {
-                availableItems = itemRepository.findByIdGreaterThan(
-                        cursor, PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "id")));
-            }
-        } else {
-            if (type != null && condition != null) {
-                availableItems = itemRepository.findByTypeAndCondition(
-                        type, condition, PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "id")));
-            } else if (type != null) {
-                availableItems = itemRepository.findByType(
-                        type, PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "id")));
-            } else if (condition != null) {
-                availableItems = itemRepository.findByCondition(
-                        condition, PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "id")));
-            } else {
-                availableItems = itemRepository.findAll(
-                        PageRequest.of(0, limit, Sort.by(Sort.Direction.ASC, "id")));
+            spec = spec.and((root, query, cb) -> cb.greaterThan(root.get("id"), cursor));
+        }
+
+        if (type != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("type"), type));
+        }
+
+        if (condition != null) {
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("condition"), condition));
+        }
+
+        if (storageId != null) {
+            spec = spec.and(keptIn(storageId));
+        }
+
+        if (from != null && to != null) {
+            spec = spec.and(notBorrowedDuring(from, to))
+                    .and(notTransportedDuring(from, to))
+                    .and(notMaintainedDuring(from, to));
+        }
+
+        return itemRepository.findBy(spec, q -> q
+                .sortBy(Sort.by(Sort.Direction.ASC, "id"))
+                .limit(limit)
+                .all());
+    }
+
+    private static Specification<Item> keptIn(Long storageId) {
+        return (root, query, cb) -> {
+            Subquery<Long> keeping = query.subquery(Long.class);
+            Root<Keeping> k = keeping.from(Keeping.class);
+            keeping.select(k.get("id")).where(
+                    cb.equal(k.get("item"), root),
+                    cb.equal(k.get("storage").get("id"), storageId));
+            return cb.exists(keeping);
+        };
+    }
+
+    /**
+     * Active borrowings block [borrowDate, expectedReturnDate); overdue ones block
+     * everything from borrowDate on, since the item has not come back yet.
+     */
+    private static Specification<Item> notBorrowedDuring(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            Subquery<Long> borrowing = query.subquery(Long.class);
+            Root<Borrowing> b = borrowing.from(Borrowing.class);
+            borrowing.select(b.get("id")).where(
+                    cb.equal(b.get("item"), root),
+                    cb.lessThan(b.get("borrowDate"), to),
+                    cb.or(
+                            cb.and(cb.equal(b.get("status"), BorrowStatus.ACTIVE),
+                                    cb.greaterThan(b.get("expectedReturnDate"), from)),
+                            cb.equal(b.get("status"), BorrowStatus.OVERDUE)));
+            return cb.not(cb.exists(borrowing));
+        };
+    }
+
+    private static Specification<Item> notTransportedDuring(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            Subquery<Long> transportation = query.subquery(Long.class);
+            Root<Transportation> t = transportation.from(Transportation.class);
+            transportation.select(t.get("id")).where(
+                    cb.equal(t.get("item"), root),
+                    t.get("status").in(TransportStatus.PLANNED, TransportStatus.IN_TRANSIT, TransportStatus.DELAYED),
+                    cb.lessThan(t.get("scheduledDeparture"), to),
+                    cb.greaterThan(t.get("scheduledArrival"), from));
+            return cb.not(cb.exists(transportation));
+        };
+    }
+
+    /**
+     * Maintenance has no end date: work in progress blocks the item from its start on,
+     * planned work blocks it only when it is scheduled inside the window.
+     */
+    private static Specification<Item> notMaintainedDuring(LocalDateTime from, LocalDateTime to) {
+        return (root, query, cb) -> {
+            Subquery<Long> maintenance = query.subquery(Long.class);
+            Root<ItemMaintenance> m = maintenance.from(ItemMaintenance.class);
+            maintenance.select(m.get("id")).where(
+                    cb.equal(m.get("item"), root),
+                    cb.lessThan(m.get("maintenanceDate"), to),
+                    cb.or(
+                            cb.equal(m.get("status"), MaintenanceStatus.IN_PROGRESS),
+                            cb.and(cb.equal(m.get("status"), MaintenanceStatus.PLANNED),
+                                    cb.greaterThanOrEqualTo(m.get("maintenanceDate"), from))));
+            return cb.not(cb.exists(maintenance));
+        };
+    }
+
+    private static Specification<Item> listFilter(ItemType type, ItemCondition condition) {
+        return Specification.allOf(
+                equal("type", type),
+                equal("condition", condition));
+    }
+
+    private Item saveChecked(Item item) {
+        try {
+            return itemRepository.saveAndFlush(item);
+        } catch (DataIntegrityViolationException e) {
+            if (String.valueOf(e.getMostSpecificCause().getMessage()).contains("uk_items_serial_number")) {
+                throw new DuplicateSerialNumberException(
+                        "Item with serial number '" + item.getSerialNumber() + "' already exists");
             }
+            throw e;
         }
+    }
 
-        return availableItems.stream()
-                .collect(Collectors.toList());
+    private static String toPrefixTsQuery(String query) {
+        return Arrays.stream(query.toLowerCase().split("[^\\p{L}\\p{N}]+"))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term + ":*")
+                .collect(Collectors.joining(" & "));
     }
 }
@@ -0,0 +1,46 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.entity.JobRun;
+import com.example.warehouse.enumeration.JobRunStatus;
+import com.example.warehouse.repository.JobRunRepository;
+import com.example.warehouse.service.interfaces.JobRunService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static com.example.warehouse.repository.FilterSpecifications.between;
+import static com.example.warehouse.repository.FilterSpecifications.equal;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JobRunServiceImpl implements JobRunService {
+
+    private final JobRunRepository jobRunRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobRun> findPage(int page, int size, String jobName, JobRunStatus status,
+                                 LocalDateTime from, LocalDateTime to) {
+        log.debug("Finding job runs - page: {}, size: {}, jobName: {}, status: {}", page, size, jobName, status);
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "startedAt", "id"));
+        return jobRunRepository.findAll(filter(jobName, status, from, to), pageable);
+    }
+
+    private static Specification<JobRun> filter(String jobName, JobRunStatus status,
+                                                LocalDateTime from, LocalDateTime to) {
+        return Specification.allOf(
+                equal("jobName", jobName),
+                equal("status", status),
+                between("startedAt", from, to));
+    }
+}
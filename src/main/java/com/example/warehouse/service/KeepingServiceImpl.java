@@ -2,14 +2,20 @@ package com.example.warehouse.service;
 
 import com.example.warehouse.dto.KeepingDTO;
 import com.example.warehouse.entity.Keeping;
+import com.example.warehouse.entity.StockMovement;
 import com.example.warehouse.entity.Storage;
 import com.example.warehouse.entity.Item;
 import com.example.warehouse.exception.KeepingNotFoundException;
 import com.example.warehouse.exception.StorageNotFoundException;
 import com.example.warehouse.exception.ItemNotFoundException;
 import com.example.warehouse.exception.DuplicateKeepingException;
+import com.example.warehouse.exception.ValidationException;
 import com.example.warehouse.mapper.KeepingMapper;
+import com.example.warehouse.enumeration.StockMovementType;
 import com.example.warehouse.repository.KeepingRepository;
+import com.example.warehouse.repository.StockLedgerRepository;
+import com.example.warehouse.repository.StockLedgerRepository.KeepingUpsert;
+import com.example.warehouse.repository.StockMovementRepository;
 import com.example.warehouse.repository.StorageRepository;
 import com.example.warehouse.repository.ItemRepository;
 import com.example.warehouse.service.interfaces.ItemService;
@@ -22,37 +28,50 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import static com.example.warehouse.repository.FilterSpecifications.equalId;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KeepingServiceImpl implements KeepingService {
 
     private final KeepingRepository keepingRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final StockLedgerRepository stockLedgerRepository;
     private final StorageService storageService;
     private final ItemService itemService;
 
+    /**
+     * Adds stock to the storage in one statement: a new keeping row is inserted, or the
+     * quantity is added to the existing one, so concurrent creates for the same item
+     * cannot race each other into a duplicate.
+     */
     @Override
+    @Transactional
     public Keeping create(Keeping keeping) {
         log.info("Creating new keeping record - storageId: {}, itemId: {}", keeping.getStorage().getId(), keeping.getItem().getId());
 
+        if (keeping.getQuantity() == null || keeping.getQuantity() < 0) {
+            throw new ValidationException("Quantity must not be negative");
+        }
+
         Storage storage = storageService.getById(keeping.getStorage().getId());
 
         Item item = itemService.getById(keeping.getItem().getId());
 
-        if (keepingRepository.existsByStorageIdAndItemId(keeping.getStorage().getId(), keeping.getItem().getId())) {
-            throw new DuplicateKeepingException(
-                    "Keeping record already exists for storage ID: " + keeping.getStorage().getId() +
-                            " and item ID: " + keeping.getItem().getId());
-        }
-
-        keeping.setStorage(storage);
-        keeping.setItem(item);
+        KeepingUpsert upsert = stockLedgerRepository.upsert(storage.getId(), item.getId(),
+                keeping.getQuantity(), keeping.getShelf());
+        recordAdjustment(storage, item, keeping.getQuantity(), upsert.quantity(),
+                upsert.inserted() ? "Keeping created" : "Keeping topped up");
 
-        Keeping savedKeeping = keepingRepository.save(keeping);
-        log.info("Keeping record created successfully with ID: {}", savedKeeping.getId());
+        Keeping savedKeeping = new Keeping(upsert.id(), storage, item, upsert.quantity(), upsert.shelf(), upsert.lastUpdated());
+        log.info("Keeping record {} successfully with ID: {}", upsert.inserted() ? "created" : "topped up", savedKeeping.getId());
 
         return savedKeeping;
     }
@@ -65,12 +84,20 @@ public class KeepingServiceImpl implements KeepingService {
                 .orElseThrow(() -> new KeepingNotFoundException("Keeping record not found with ID: " + id));
     }
 
+    /**
+     * Treats the quantity in the request as a stock count: the row is locked while it is
+     * compared with the current quantity, and the difference is written to the ledger.
+     */
     @Override
+    @Transactional
     public void update(Long id, Keeping keeping) {
         log.info("Updating keeping record with ID: {}", id);
 
-        Keeping existingKeeping = keepingRepository.findById(id)
+        Keeping existingKeeping = keepingRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new KeepingNotFoundException("Keeping record not found with ID: " + id));
+        Storage previousStorage = existingKeeping.getStorage();
+        Item previousItem = existingKeeping.getItem();
+        int previousQuantity = existingKeeping.getQuantity();
 
         if (!existingKeeping.getStorage().getId().equals(keeping.getStorage().getId())) {
             Storage storage = storageService.getById(keeping.getStorage().getId());
@@ -93,21 +120,46 @@ public class KeepingServiceImpl implements KeepingService {
         existingKeeping.setShelf(keeping.getShelf());
 
         keepingRepository.save(existingKeeping);
+
+        int quantity = existingKeeping.getQuantity();
+        if (previousStorage.getId().equals(existingKeeping.getStorage().getId())
+                && previousItem.getId().equals(existingKeeping.getItem().getId())) {
+            recordAdjustment(previousStorage, previousItem, quantity - previousQuantity, quantity, "Keeping updated");
+        } else {
+            recordAdjustment(previousStorage, previousItem, -previousQuantity, 0, "Keeping moved");
+            recordAdjustment(existingKeeping.getStorage(), existingKeeping.getItem(), quantity, quantity, "Keeping moved");
+        }
         log.info("Keeping record with ID: {} updated successfully", id);
     }
 
     @Override
+    @Transactional
     public void delete(Long id) {
         log.info("Deleting keeping record with ID: {}", id);
 
-        if (!keepingRepository.existsById(id)) {
-            throw new KeepingNotFoundException("Keeping record not found with ID: " + id);
-        }
+        Keeping keeping = keepingRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new KeepingNotFoundException("Keeping record not found with ID: " + id));
 
-        keepingRepository.deleteById(id);
+        recordAdjustment(keeping.getStorage(), keeping.getItem(), -keeping.getQuantity(), 0, "Keeping deleted");
+        keepingRepository.delete(keeping);
         log.info("Keeping record with ID: {} deleted successfully", id);
     }
 
+    @Override
+    public Window<Keeping> scroll(ScrollPosition position, int size, Long storageId, Long itemId) {
+        log.debug("Scrolling keeping records - size: {}, storageId: {}, itemId: {}", size, storageId, itemId);
+
+        return keepingRepository.findBy(filter(storageId, itemId), q -> q
+                .sortBy(Sort.by(Sort.Direction.DESC, "lastUpdated"))
+                .limit(size)
+                .scroll(position));
+    }
+
+    @Override
+    public long count(Long storageId, Long itemId) {
+        return keepingRepository.count(filter(storageId, itemId));
+    }
+
     @Override
     public Page<Keeping> findPage(int page, int size, Long storageId, Long itemId) {
         log.debug("Fetching keeping records page - page: {}, size: {}, storageId: {}, itemId: {}",
@@ -115,18 +167,26 @@ public class KeepingServiceImpl implements KeepingService {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "lastUpdated"));
 
-        Page<Keeping> keepingPage;
+        return keepingRepository.findAll(filter(storageId, itemId), pageable);
+    }
 
-        if (storageId != null && itemId != null) {
-            keepingPage = keepingRepository.findByStorageIdAndItemId(storageId, itemId, pageable);
-        } else if (storageId != null) {
-            keepingPage = keepingRepository.findByStorageId(storageId, pageable);
-        } else if (itemId != null) {
-            keepingPage = keepingRepository.findByItemId(itemId, pageable);
-        } else {
-            keepingPage = keepingRepository.findAll(pageable);
+    private void recordAdjustment(Storage storage, Item item, int delta, int quantityAfter, String reason) {
+        if (delta == 0) {
+            return;
         }
+        stockMovementRepository.save(StockMovement.builder()
+                .storage(storage)
+                .item(item)
+                .type(StockMovementType.ADJUST)
+                .delta(delta)
+                .quantityAfter(quantityAfter)
+                .reason(reason)
+                .build());
+    }
 
-        return keepingPage;
+    private static Specification<Keeping> filter(Long storageId, Long itemId) {
+        return Specification.allOf(
+                equalId("storage", storageId),
+                equalId("item", itemId));
     }
 }
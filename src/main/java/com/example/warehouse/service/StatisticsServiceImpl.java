@@ -0,0 +1,108 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.dto.StatisticsDTO;
+import com.example.warehouse.repository.StatisticsRepository;
+import com.example.warehouse.service.interfaces.StatisticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Serves the dashboard counts from memory for a short TTL. On expiry one caller recomputes
+ * while concurrent callers wait for its result instead of issuing their own queries; the
+ * six GROUP BY queries run in parallel on the application task executor.
+ */
+@Slf4j
+@Service
+public class StatisticsServiceImpl implements StatisticsService {
+
+    private final StatisticsRepository statisticsRepository;
+    private final Executor executor;
+    private final long ttlMillis;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Cached cached;
+
+    public StatisticsServiceImpl(StatisticsRepository statisticsRepository,
+                                 @Qualifier("applicationTaskExecutor") Executor executor,
+                                 @Value("${warehouse.stats.ttl-seconds:30}") long ttlSeconds) {
+        this.statisticsRepository = statisticsRepository;
+        this.executor = executor;
+        this.ttlMillis = TimeUnit.SECONDS.toMillis(ttlSeconds);
+    }
+
+    @Override
+    public StatisticsDTO getStatistics() {
+        Cached current = cached;
+        if (current != null && current.isFresh()) {
+            return current.statistics;
+        }
+
+        refreshLock.lock();
+        try {
+            current = cached;
+            if (current != null && current.isFresh()) {
+                return current.statistics;
+            }
+            StatisticsDTO statistics = compute();
+            cached = new Cached(statistics, System.currentTimeMillis() + ttlMillis);
+            return statistics;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    void evict() {
+        cached = null;
+    }
+
+    private StatisticsDTO compute() {
+        log.debug("Computing statistics");
+
+        var usersByRole = async(statisticsRepository::countUsersByRole);
+        var borrowingsByStatus = async(statisticsRepository::countBorrowingsByStatus);
+        var transportationsByStatus = async(statisticsRepository::countTransportationsByStatus);
+        var maintenanceByStatus = async(statisticsRepository::countMaintenanceByStatus);
+        var itemsByTypeAndCondition = async(statisticsRepository::countItemsByTypeAndCondition);
+        var vehiclesByStatus = async(statisticsRepository::countVehiclesByStatus);
+
+        try {
+            CompletableFuture.allOf(usersByRole, borrowingsByStatus, transportationsByStatus,
+                    maintenanceByStatus, itemsByTypeAndCondition, vehiclesByStatus).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+
+        return new StatisticsDTO(
+                LocalDateTime.now(),
+                usersByRole.join(),
+                borrowingsByStatus.join(),
+                transportationsByStatus.join(),
+                maintenanceByStatus.join(),
+                itemsByTypeAndCondition.join(),
+                vehiclesByStatus.join());
+    }
+
+    private <T> CompletableFuture<T> async(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(query, executor);
+    }
+
+    private record Cached(StatisticsDTO statistics, long expiresAt) {
+
+        boolean isFresh() {
+            return System.currentTimeMillis() < expiresAt;
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.StockMovement;
+import com.example.warehouse.entity.Storage;
+import com.example.warehouse.enumeration.StockMovementType;
+import com.example.warehouse.exception.BusinessRuleException;
+import com.example.warehouse.exception.InsufficientStockException;
+import com.example.warehouse.exception.KeepingNotFoundException;
+import com.example.warehouse.exception.ValidationException;
+import com.example.warehouse.repository.StockLedgerRepository;
+import com.example.warehouse.repository.StockMovementRepository;
+import com.example.warehouse.service.interfaces.ItemService;
+import com.example.warehouse.service.interfaces.StockMovementService;
+import com.example.warehouse.service.interfaces.StorageService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.example.warehouse.repository.FilterSpecifications.between;
+import static com.example.warehouse.repository.FilterSpecifications.equal;
+import static com.example.warehouse.repository.FilterSpecifications.equalId;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockMovementServiceImpl implements StockMovementService {
+
+    private final StockLedgerRepository stockLedgerRepository;
+    private final StockMovementRepository stockMovementRepository;
+    private final StorageService storageService;
+    private final ItemService itemService;
+
+    @Override
+    @Transactional
+    public StockMovement receive(Long storageId, Long itemId, int quantity, String reference, String reason) {
+        log.info("Receiving stock - storageId: {}, itemId: {}, quantity: {}", storageId, itemId, quantity);
+        requirePositive(quantity);
+
+        return apply(StockMovementType.RECEIVE, storageService.getById(storageId), itemService.getById(itemId),
+                quantity, reference, reason);
+    }
+
+    @Override
+    @Transactional
+    public StockMovement issue(Long storageId, Long itemId, int quantity, String reference, String reason) {
+        log.info("Issuing stock - storageId: {}, itemId: {}, quantity: {}", storageId, itemId, quantity);
+        requirePositive(quantity);
+
+        return apply(StockMovementType.ISSUE, storageService.getById(storageId), itemService.getById(itemId),
+                -quantity, reference, reason);
+    }
+
+    @Override
+    @Transactional
+    public StockMovement adjust(Long storageId, Long itemId, int delta, String reference, String reason) {
+        log.info("Adjusting stock - storageId: {}, itemId: {}, delta: {}", storageId, itemId, delta);
+        if (delta == 0) {
+            throw new ValidationException("Adjustment delta must not be zero");
+        }
+
+        return apply(StockMovementType.ADJUST, storageService.getById(storageId), itemService.getById(itemId),
+                delta, reference, reason);
+    }
+
+    /**
+     * Fails fast when the storage does not keep enough of the item right now. Nothing is
+     * reserved, so the stock can still be gone by the time it is actually moved.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void checkAvailable(Long storageId, Long itemId, int quantity) {
+        requirePositive(quantity);
+        if (stockLedgerRepository.findQuantity(storageId, itemId).orElse(-1) < quantity) {
+            throw shortage(storageId, itemId, quantity);
+        }
+    }
+
+    /**
+     * Moves stock between two storages in one transaction. The two keeping rows are always
+     * updated in ascending storage id order, so opposite transfers between the same pair of
+     * storages lock the rows in the same order and cannot deadlock.
+     */
+    @Override
+    @Transactional
+    public List<StockMovement> transfer(Long fromStorageId, Long toStorageId, Long itemId, int quantity,
+                                        String reference, String reason) {
+        log.info("Transferring stock - from: {}, to: {}, itemId: {}, quantity: {}", fromStorageId, toStorageId, itemId, quantity);
+        requirePositive(quantity);
+        if (fromStorageId.equals(toStorageId)) {
+            throw new BusinessRuleException("Source and destination storage must differ");
+        }
+
+        Storage from = storageService.getById(fromStorageId);
+        Storage to = storageService.getById(toStorageId);
+        Item item = itemService.getById(itemId);
+
+        if (fromStorageId < toStorageId) {
+            StockMovement out = apply(StockMovementType.TRANSFER, from, item, -quantity, reference, reason);
+            StockMovement in = apply(StockMovementType.TRANSFER, to, item, quantity, reference, reason);
+            return List.of(out, in);
+        }
+        StockMovement in = apply(StockMovementType.TRANSFER, to, item, quantity, reference, reason);
+        StockMovement out = apply(StockMovementType.TRANSFER, from, item, -quantity, reference, reason);
+        return List.of(out, in);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<StockMovement> findPage(int page, int size, Long storageId, Long itemId, StockMovementType type,
+                                        LocalDateTime from, LocalDateTime to) {
+        log.debug("Finding stock movements - page: {}, size: {}, storageId: {}, itemId: {}, type: {}",
+                page, size, storageId, itemId, type);
+
+        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt", "id"));
+        return stockMovementRepository.findAll(filter(storageId, itemId, type, from, to), pageable);
+    }
+
+    private StockMovement apply(StockMovementType type, Storage storage, Item item, int delta,
+                                String reference, String reason) {
+        int quantityAfter = delta > 0
+                ? stockLedgerRepository.increase(storage.getId(), item.getId(), delta)
+                : stockLedgerRepository.decrease(storage.getId(), item.getId(), -delta)
+                        .orElseThrow(() -> shortage(storage.getId(), item.getId(), -delta));
+
+        return stockMovementRepository.save(StockMovement.builder()
+                .storage(storage)
+                .item(item)
+                .type(type)
+                .delta(delta)
+                .quantityAfter(quantityAfter)
+                .reference(reference)
+                .reason(reason)
+                .build());
+    }
+
+    private RuntimeException shortage(Long storageId, Long itemId, int requested) {
+        if (!stockLedgerRepository.exists(storageId, itemId)) {
+            return new KeepingNotFoundException(
+                    "Item ID: " + itemId + " is not kept in storage ID: " + storageId);
+        }
+        return new InsufficientStockException(
+                "Not enough stock of item ID: " + itemId + " in storage ID: " + storageId + " to remove " + requested);
+    }
+
+    private static void requirePositive(int quantity) {
+        if (quantity <= 0) {
+            throw new ValidationException("Quantity must be positive");
+        }
+    }
+
+    private static Specification<StockMovement> filter(Long storageId, Long itemId, StockMovementType type,
+                                                       LocalDateTime from, LocalDateTime to) {
+        return Specification.allOf(
+                equalId("storage", storageId),
+                equalId("item", itemId),
+                equal("type", type),
+                between("createdAt", from, to));
+    }
+}
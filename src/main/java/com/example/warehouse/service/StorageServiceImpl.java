@@ -14,8 +14,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import static com.example.warehouse.repository.FilterSpecifications.containsIgnoreCase;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -84,20 +89,31 @@ public class StorageServiceImpl implements StorageService {
         log.info("Storage with ID: {} deleted successfully", id);
     }
 
+    @Override
+    public Window<Storage> scroll(ScrollPosition position, int size, String nameLike) {
+        log.debug("Scrolling storages - size: {}, nameLike: {}", size, nameLike);
+
+        return storageRepository.findBy(filter(nameLike), q -> q
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(size)
+                .scroll(position));
+    }
+
+    @Override
+    public long count(String nameLike) {
+        return storageRepository.count(filter(nameLike));
+    }
+
     @Override
     public Page<Storage> findPage(int page, int size, String nameLike) {
         log.debug("Fetching storages page - page: {}, size: {}, nameLike: {}", page, size, nameLike);
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        Page<Storage> storagesPage;
-
-        if (nameLike != null && !nameLike.trim().isEmpty()) {
-            storagesPage = storageRepository.findByNameContainingIgnoreCase(nameLike.trim(), pageable);
-        } else {
-            storagesPage = storageRepository.findAll(pageable);
-        }
+        return storageRepository.findAll(filter(nameLike), pageable);
+    }
 
-        return storagesPage;
+    private static Specification<Storage> filter(String nameLike) {
+        return containsIgnoreCase("name", nameLike);
     }
 }
@@ -1,5 +1,6 @@
 package com.example.warehouse.service;
 
+import com.example.warehouse.dto.TransportationBatchResultDTO;
 import com.example.warehouse.dto.TransportationDTO;
 import com.example.warehouse.entity.Transportation;
 import com.example.warehouse.entity.Item;
@@ -13,23 +14,43 @@ import com.example.warehouse.exception.VehicleNotFoundException;
 import com.example.warehouse.exception.UserNotFoundException;
 import com.example.warehouse.exception.StorageNotFoundException;
 import com.example.warehouse.exception.OperationNotAllowedException;
+import com.example.warehouse.exception.ConflictException;
+import com.example.warehouse.exception.ValidationException;
 import com.example.warehouse.mapper.TransportationMapper;
+import com.example.warehouse.repository.TransportationBatchRepository;
+import com.example.warehouse.repository.TransportationBatchRepository.ScheduleConflict;
 import com.example.warehouse.repository.TransportationRepository;
 import com.example.warehouse.repository.ItemRepository;
 import com.example.warehouse.repository.VehicleRepository;
 import com.example.warehouse.repository.UserRepository;
 import com.example.warehouse.repository.StorageRepository;
 import com.example.warehouse.service.interfaces.*;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.example.warehouse.repository.FilterSpecifications.equal;
+import static com.example.warehouse.repository.FilterSpecifications.equalId;
 
 @Slf4j
 @Service
@@ -41,6 +62,28 @@ public class TransportationServiceImpl implements TransportationService {
     private final VehicleService vehicleService;
     private final UserService userService;
     private final StorageService storageService;
+    private final StockMovementService stockMovementService;
+    private final TransportationBatchRepository transportationBatchRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${warehouse.transportations.batch.max-size:1000}")
+    private int batchMaxSize;
+
+    @Value("${warehouse.jobs.delayed-transportations.batch-size:500}")
+    private int delayedBatchSize;
+
+    @Value("${warehouse.jobs.delayed-transportations.max-rows:50000}")
+    private int delayedMaxRows;
+
+    @PostConstruct
+    void validateJobSettings() {
+        if (delayedBatchSize < 1) {
+            throw new IllegalStateException("warehouse.jobs.delayed-transportations.batch-size must be at least 1, was " + delayedBatchSize);
+        }
+        if (delayedMaxRows < 0) {
+            throw new IllegalStateException("warehouse.jobs.delayed-transportations.max-rows must not be negative, was " + delayedMaxRows);
+        }
+    }
 
     @Override
     @Transactional
@@ -62,6 +105,7 @@ public class TransportationServiceImpl implements TransportationService {
             throw new OperationNotAllowedException("From and to storage cannot be the same");
         }
 
+        checkSchedule(transportation.getScheduledDeparture(), transportation.getScheduledArrival());
         checkDriverAvailability(transportation.getDriver().getId(), transportation.getScheduledDeparture(), transportation.getScheduledArrival());
         checkVehicleAvailability(transportation.getVehicle().getId(), transportation.getScheduledDeparture(), transportation.getScheduledArrival());
 
@@ -72,12 +116,107 @@ public class TransportationServiceImpl implements TransportationService {
         transportation.setToStorage(toStorage);
         transportation.setStatus(TransportStatus.PLANNED);
 
-        Transportation savedTransportation = transportationRepository.save(transportation);
+        Transportation savedTransportation = saveChecked(transportation);
         log.info("Transportation created successfully with ID: {}", savedTransportation.getId());
 
         return savedTransportation;
     }
 
+    /**
+     * Plans a whole batch with a fixed number of round trips: one id lookup per referenced
+     * table, one schedule check for all rows, one batched insert. Rows that fail validation
+     * or overlap an existing booking, or an earlier row of the same batch, are reported as
+     * rejected and the rest are inserted.
+     */
+    @Override
+    @Transactional
+    public List<TransportationBatchResultDTO> createBatch(List<Transportation> transportations) {
+        log.info("Creating batch of {} transportations", transportations.size());
+
+        if (transportations.isEmpty()) {
+            throw new ValidationException("Batch must contain at least one transportation");
+        }
+        if (transportations.size() > batchMaxSize) {
+            throw new ValidationException("Batch must not contain more than " + batchMaxSize + " transportations");
+        }
+
+        Set<Long> itemIds = new HashSet<>();
+        Set<Long> vehicleIds = new HashSet<>();
+        Set<Long> userIds = new HashSet<>();
+        Set<Long> storageIds = new HashSet<>();
+        for (Transportation transportation : transportations) {
+            if (hasAllReferences(transportation)) {
+                itemIds.add(transportation.getItem().getId());
+                vehicleIds.add(transportation.getVehicle().getId());
+                userIds.add(transportation.getDriver().getId());
+                storageIds.add(transportation.getFromStorage().getId());
+                storageIds.add(transportation.getToStorage().getId());
+            }
+        }
+
+        Set<Long> existingItems = transportationBatchRepository.findExistingItemIds(itemIds);
+        Set<Long> existingVehicles = transportationBatchRepository.findExistingVehicleIds(vehicleIds);
+        Set<Long> existingUsers = transportationBatchRepository.findExistingUserIds(userIds);
+        Set<Long> existingStorages = transportationBatchRepository.findExistingStorageIds(storageIds);
+
+        String[] errors = new String[transportations.size()];
+        List<Transportation> scheduled = new ArrayList<>();
+        List<Integer> scheduledIndexes = new ArrayList<>();
+        for (int i = 0; i < transportations.size(); i++) {
+            Transportation transportation = transportations.get(i);
+            errors[i] = validateBatchRow(transportation, existingItems, existingVehicles, existingUsers, existingStorages);
+            if (errors[i] == null && transportation.getScheduledDeparture() != null
+                    && transportation.getScheduledArrival() != null) {
+                scheduled.add(transportation);
+                scheduledIndexes.add(i);
+            }
+        }
+
+        Map<Integer, ScheduleConflict> conflicts = transportationBatchRepository.findScheduleConflicts(scheduled);
+        Map<Long, List<Transportation>> driverBookings = new HashMap<>();
+        Map<Long, List<Transportation>> vehicleBookings = new HashMap<>();
+        for (int j = 0; j < scheduled.size(); j++) {
+            Transportation transportation = scheduled.get(j);
+            int index = scheduledIndexes.get(j);
+            ScheduleConflict conflict = conflicts.get(j);
+
+            List<Transportation> sameDriver = driverBookings.computeIfAbsent(transportation.getDriver().getId(), k -> new ArrayList<>());
+            List<Transportation> sameVehicle = vehicleBookings.computeIfAbsent(transportation.getVehicle().getId(), k -> new ArrayList<>());
+            if ((conflict != null && conflict.driverBusy()) || overlapsAny(transportation, sameDriver)) {
+                errors[index] = "Driver is not available during the specified time period";
+            } else if ((conflict != null && conflict.vehicleBusy()) || overlapsAny(transportation, sameVehicle)) {
+                errors[index] = "Vehicle is not available during the specified time period";
+            } else {
+                sameDriver.add(transportation);
+                sameVehicle.add(transportation);
+            }
+        }
+
+        List<Transportation> accepted = new ArrayList<>();
+        for (int i = 0; i < transportations.size(); i++) {
+            if (errors[i] == null) {
+                accepted.add(transportations.get(i));
+            }
+        }
+
+        try {
+            transportationBatchRepository.insertAll(accepted);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Batch overlaps with transportations booked concurrently, please retry");
+        }
+
+        List<TransportationBatchResultDTO> results = new ArrayList<>(transportations.size());
+        for (int i = 0; i < transportations.size(); i++) {
+            results.add(errors[i] == null
+                    ? TransportationBatchResultDTO.created(i, new TransportationDTO(transportations.get(i)))
+                    : TransportationBatchResultDTO.rejected(i, errors[i]));
+        }
+
+        log.info("Transportation batch processed: {} created, {} rejected",
+                accepted.size(), transportations.size() - accepted.size());
+        return results;
+    }
+
     @Override
     public Transportation getById(Long id) {
         log.debug("Fetching transportation by ID: {}", id);
@@ -91,7 +230,7 @@ public class TransportationServiceImpl implements TransportationService {
     public void update(Long id, Transportation transportation) {
         log.info("Updating transportation with ID: {}", id);
 
-        Transportation existingTransportation = transportationRepository.findById(id)
+        Transportation existingTransportation = transportationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new TransportationNotFoundException("Transportation not found with ID: " + id));
 
         if (isFinalStatus(existingTransportation.getStatus())) {
@@ -99,8 +238,21 @@ public class TransportationServiceImpl implements TransportationService {
                     "Cannot update transportation with status: " + existingTransportation.getStatus());
         }
 
+        checkSchedule(transportation.getScheduledDeparture(), transportation.getScheduledArrival());
         updateRelatedEntities(existingTransportation, transportation);
 
+        if (transportation.getQuantity() != null) {
+            existingTransportation.setQuantity(transportation.getQuantity());
+        }
+        if (existingTransportation.getStatus() == TransportStatus.PLANNED &&
+                transportation.getStatus() == TransportStatus.IN_TRANSIT) {
+            stockMovementService.checkAvailable(existingTransportation.getFromStorage().getId(),
+                    existingTransportation.getItem().getId(), existingTransportation.getQuantity());
+        }
+        if (transportation.getStatus() == TransportStatus.DELIVERED) {
+            moveStock(existingTransportation);
+        }
+
         existingTransportation.setStatus(transportation.getStatus());
         existingTransportation.setScheduledDeparture(transportation.getScheduledDeparture());
         existingTransportation.setScheduledArrival(transportation.getScheduledArrival());
@@ -115,7 +267,7 @@ public class TransportationServiceImpl implements TransportationService {
             existingTransportation.setActualArrival(LocalDateTime.now());
         }
 
-        transportationRepository.save(existingTransportation);
+        saveChecked(existingTransportation);
         log.info("Transportation with ID: {} updated successfully", id);
     }
 
@@ -135,6 +287,21 @@ public class TransportationServiceImpl implements TransportationService {
         log.info("Transportation with ID: {} deleted successfully", id);
     }
 
+    @Override
+    public Window<Transportation> scroll(ScrollPosition position, int size, TransportStatus status, Long itemId, Long fromStorageId, Long toStorageId) {
+        log.debug("Scrolling transportations - size: {}, status: {}, itemId: {}, fromStorageId: {}, toStorageId: {}", size, status, itemId, fromStorageId, toStorageId);
+
+        return transportationRepository.findBy(filter(status, itemId, fromStorageId, toStorageId), q -> q
+                .sortBy(Sort.by(Sort.Direction.DESC, "createdAt"))
+                .limit(size)
+                .scroll(position));
+    }
+
+    @Override
+    public long count(TransportStatus status, Long itemId, Long fromStorageId, Long toStorageId) {
+        return transportationRepository.count(filter(status, itemId, fromStorageId, toStorageId));
+    }
+
     @Override
     public Page<Transportation> findPage(int page, int size, TransportStatus status, Long itemId,
                                             Long fromStorageId, Long toStorageId) {
@@ -143,32 +310,7 @@ public class TransportationServiceImpl implements TransportationService {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
 
-        Page<Transportation> transportationsPage;
-
-        if (status != null && itemId != null && fromStorageId != null && toStorageId != null) {
-            transportationsPage = transportationRepository.findByStatusAndItemIdAndFromStorageIdAndToStorageId(
-                    status, itemId, fromStorageId, toStorageId, pageable);
-        } else if (status != null && itemId != null) {
-            transportationsPage = transportationRepository.findByStatusAndItemId(status, itemId, pageable);
-        } else if (status != null && fromStorageId != null) {
-            transportationsPage = transportationRepository.findByStatusAndFromStorageId(status, fromStorageId, pageable);
-        } else if (status != null && toStorageId != null) {
-            transportationsPage = transportationRepository.findByStatusAndToStorageId(status, toStorageId, pageable);
-        } else if (itemId != null && fromStorageId != null) {
-            transportationsPage = transportationRepository.findByItemIdAndFromStorageId(itemId, fromStorageId, pageable);
-        } else if (status != null) {
-            transportationsPage = transportationRepository.findByStatus(status, pageable);
-        } else if (itemId != null) {
-            transportationsPage = transportationRepository.findByItemId(itemId, pageable);
-        } else if (fromStorageId != null) {
-            transportationsPage = transportationRepository.findByFromStorageId(fromStorageId, pageable);
-        } else if (toStorageId != null) {
-            transportationsPage = transportationRepository.findByToStorageId(toStorageId, pageable);
-        } else {
-            transportationsPage = transportationRepository.findAll(pageable);
-        }
-
-        return transportationsPage;
+        return transportationRepository.findAll(filter(status, itemId, fromStorageId, toStorageId), pageable);
     }
 
 
@@ -199,6 +341,31 @@ public class TransportationServiceImpl implements TransportationService {
         }
     }
 
+    private void checkSchedule(LocalDateTime start, LocalDateTime end) {
+        if (start != null && end != null && end.isBefore(start)) {
+            throw new OperationNotAllowedException("Scheduled arrival must not be before scheduled departure");
+        }
+    }
+
+    /**
+     * The availability checks give a readable error for the common case; the exclusion
+     * constraints on transportations.schedule settle races between concurrent bookings.
+     */
+    private Transportation saveChecked(Transportation transportation) {
+        try {
+            return transportationRepository.saveAndFlush(transportation);
+        } catch (DataIntegrityViolationException e) {
+            String message = String.valueOf(e.getMostSpecificCause().getMessage());
+            if (message.contains("ex_transportation_driver_schedule")) {
+                throw new OperationNotAllowedException("Driver is not available during the specified time period");
+            }
+            if (message.contains("ex_transportation_vehicle_schedule")) {
+                throw new OperationNotAllowedException("Vehicle is not available during the specified time period");
+            }
+            throw e;
+        }
+    }
+
     private void checkDriverAvailability(Long driverId, LocalDateTime start, LocalDateTime end) {
         if (start != null && end != null) {
             boolean isAvailable = transportationRepository.isDriverAvailable(driverId, start, end);
@@ -217,15 +384,77 @@ public class TransportationServiceImpl implements TransportationService {
         }
     }
 
+    private String validateBatchRow(Transportation transportation, Set<Long> items, Set<Long> vehicles,
+                                    Set<Long> users, Set<Long> storages) {
+        if (!hasAllReferences(transportation)) {
+            return "Item, vehicle, driver, from storage and to storage IDs are required";
+        }
+        if (!items.contains(transportation.getItem().getId())) {
+            return "Item not found with ID: " + transportation.getItem().getId();
+        }
+        if (!vehicles.contains(transportation.getVehicle().getId())) {
+            return "Vehicle not found with ID: " + transportation.getVehicle().getId();
+        }
+        if (!users.contains(transportation.getDriver().getId())) {
+            return "User not found with ID: " + transportation.getDriver().getId();
+        }
+        if (!storages.contains(transportation.getFromStorage().getId())) {
+            return "Storage not found with ID: " + transportation.getFromStorage().getId();
+        }
+        if (!storages.contains(transportation.getToStorage().getId())) {
+            return "Storage not found with ID: " + transportation.getToStorage().getId();
+        }
+        if (transportation.getFromStorage().getId().equals(transportation.getToStorage().getId())) {
+            return "From and to storage cannot be the same";
+        }
+        if (transportation.getQuantity() == null || transportation.getQuantity() <= 0) {
+            return "Quantity must be positive";
+        }
+        if (transportation.getScheduledDeparture() != null && transportation.getScheduledArrival() != null
+                && transportation.getScheduledArrival().isBefore(transportation.getScheduledDeparture())) {
+            return "Scheduled arrival must not be before scheduled departure";
+        }
+        return null;
+    }
+
+    private boolean hasAllReferences(Transportation transportation) {
+        return transportation.getItem() != null && transportation.getItem().getId() != null
+                && transportation.getVehicle() != null && transportation.getVehicle().getId() != null
+                && transportation.getDriver() != null && transportation.getDriver().getId() != null
+                && transportation.getFromStorage() != null && transportation.getFromStorage().getId() != null
+                && transportation.getToStorage() != null && transportation.getToStorage().getId() != null;
+    }
+
+    private boolean overlapsAny(Transportation transportation, List<Transportation> bookings) {
+        for (Transportation booking : bookings) {
+            if (transportation.getScheduledDeparture().isBefore(booking.getScheduledArrival())
+                    && booking.getScheduledDeparture().isBefore(transportation.getScheduledArrival())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void moveStock(Transportation transportation) {
+        stockMovementService.transfer(transportation.getFromStorage().getId(), transportation.getToStorage().getId(),
+                transportation.getItem().getId(), transportation.getQuantity(),
+                "transportation:" + transportation.getId(), "Transportation delivered");
+    }
+
     private boolean isFinalStatus(TransportStatus status) {
         return status == TransportStatus.DELIVERED || status == TransportStatus.CANCELLED;
     }
 
 
+    /**
+     * Checks that the source storage still keeps the shipped quantity before the vehicle
+     * leaves. Stock stays in the source storage until delivery.
+     */
+    @Transactional
     public Transportation startTransportation(Long id) {
         log.info("Starting transportation with ID: {}", id);
 
-        Transportation transportation = transportationRepository.findById(id)
+        Transportation transportation = transportationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new TransportationNotFoundException("Transportation not found with ID: " + id));
 
         if (transportation.getStatus() != TransportStatus.PLANNED) {
@@ -233,6 +462,9 @@ public class TransportationServiceImpl implements TransportationService {
                     "Cannot start transportation with status: " + transportation.getStatus());
         }
 
+        stockMovementService.checkAvailable(transportation.getFromStorage().getId(),
+                transportation.getItem().getId(), transportation.getQuantity());
+
         transportation.setStatus(TransportStatus.IN_TRANSIT);
         transportation.setActualDeparture(LocalDateTime.now());
 
@@ -242,10 +474,17 @@ public class TransportationServiceImpl implements TransportationService {
         return updatedTransportation;
     }
 
+    /**
+     * Delivers the transportation and moves its quantity from the source to the destination
+     * keeping in the same transaction. The transportation row is locked first so a delivery
+     * is applied once; the two keeping rows are then locked in storage id order by
+     * {@link StockMovementService#transfer}.
+     */
+    @Transactional
     public Transportation completeTransportation(Long id) {
         log.info("Completing transportation with ID: {}", id);
 
-        Transportation transportation = transportationRepository.findById(id)
+        Transportation transportation = transportationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new TransportationNotFoundException("Transportation not found with ID: " + id));
 
         if (transportation.getStatus() != TransportStatus.IN_TRANSIT) {
@@ -253,6 +492,7 @@ public class TransportationServiceImpl implements TransportationService {
                     "Cannot complete transportation with status: " + transportation.getStatus());
         }
 
+        moveStock(transportation);
         transportation.setStatus(TransportStatus.DELIVERED);
         transportation.setActualArrival(LocalDateTime.now());
 
@@ -262,10 +502,11 @@ public class TransportationServiceImpl implements TransportationService {
         return updatedTransportation;
     }
 
+    @Transactional
     public Transportation cancelTransportation(Long id) {
         log.info("Canceling transportation with ID: {}", id);
 
-        Transportation transportation = transportationRepository.findById(id)
+        Transportation transportation = transportationRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new TransportationNotFoundException("Transportation not found with ID: " + id));
 
         if (isFinalStatus(transportation.getStatus())) {
@@ -290,8 +531,37 @@ public class TransportationServiceImpl implements TransportationService {
         return transportationRepository.findOverdueTransportations(now, pageable);
     }
 
+    @Override
+    public int markDelayedTransportations() {
+        log.debug("Marking overdue transportations as DELAYED");
+        LocalDateTime now = LocalDateTime.now();
+
+        int total = 0;
+        while (total < delayedMaxRows) {
+            int limit = Math.min(delayedBatchSize, delayedMaxRows - total);
+            Integer updated = transactionTemplate.execute(tx -> transportationRepository.markDelayedBatch(now, limit));
+            total += updated;
+            if (updated < limit) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Marked {} transportations as DELAYED", total);
+        }
+        return total;
+    }
+
     public long countByStatus(TransportStatus status) {
         log.debug("Counting transportations with status: {}", status);
         return transportationRepository.countByStatus(status);
     }
-}
\ No newline at end of file
+
+    private static Specification<Transportation> filter(TransportStatus status, Long itemId, Long fromStorageId, Long toStorageId) {
+        return Specification.allOf(
+                equal("status", status),
+                equalId("item", itemId),
+                equalId("fromStorage", fromStorageId),
+                equalId("toStorage", toStorageId));
+    }
+}
@@ -11,13 +11,22 @@ import com.example.warehouse.repository.UserRepository;
 import com.example.warehouse.service.interfaces.UserService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.example.warehouse.repository.FilterSpecifications.between;
+import static com.example.warehouse.repository.FilterSpecifications.containsIgnoreCase;
+import static com.example.warehouse.repository.FilterSpecifications.equal;
+import static com.example.warehouse.repository.FilterSpecifications.startsWithIgnoreCase;
+
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -30,13 +39,9 @@ public class UserServiceImpl implements UserService {
     public User createUser(User user) {
         log.info("Creating new user with email: {}", user.getEmail());
 
-        if (existsByEmail(user.getEmail())) {
-            throw new UserAlreadyExistsException("User with email " + user.getEmail() + " already exists");
-        }
-
         user.setCreatedAt(LocalDateTime.now());
         
-        User savedUser = userRepository.save(user);
+        User savedUser = saveChecked(user);
         log.info("User created successfully with ID: {}", savedUser.getId());
         
         return savedUser;
@@ -59,26 +64,22 @@ public class UserServiceImpl implements UserService {
     }
 
     @Override
-    public List<User> getAllUsers() {
-        log.debug("Fetching all users");
-
-        return userRepository.findAll();
+    public Window<User> scroll(ScrollPosition position, int size, RoleType role, String emailPrefix, String lastName,
+                               LocalDateTime createdFrom, LocalDateTime createdTo) {
+        log.debug("Scrolling users - size: {}, role: {}, emailPrefix: {}, lastName: {}, createdFrom: {}, createdTo: {}",
+                size, role, emailPrefix, lastName, createdFrom, createdTo);
+
+        return userRepository.findBy(filter(role, emailPrefix, lastName, createdFrom, createdTo), q -> q
+                .sortBy(Sort.by("id"))
+                .limit(size)
+                .scroll(position));
     }
 
     @Override
-    public List<User> getUsersByRole(RoleType role) {
-        log.debug("Fetching users by role: {}", role);
-
-        return userRepository.findByRole(role);
+    public long count(RoleType role, String emailPrefix, String lastName, LocalDateTime createdFrom, LocalDateTime createdTo) {
+        return userRepository.count(filter(role, emailPrefix, lastName, createdFrom, createdTo));
     }
 
-    @Override
-    public List<User> searchUsersByLastName(String lastName) {
-        log.debug("Searching users by last name: {}", lastName);
-
-        return userRepository.findByLastNameContainingIgnoreCase(lastName);
-    }
-    
     @Override
     public User updateUser(Long id, User user) {
         log.info("Updating user with ID: {}", id);
@@ -114,15 +115,23 @@ public class UserServiceImpl implements UserService {
         return userRepository.existsByEmail(email);
     }
 
-    public List<User> getUsersCreatedBetween(LocalDateTime start, LocalDateTime end) {
-        log.debug("Fetching users created between {} and {}", start, end);
-        
-        return userRepository.findUsersCreatedBetween(start, end);
+    private static Specification<User> filter(RoleType role, String emailPrefix, String lastName,
+                                              LocalDateTime createdFrom, LocalDateTime createdTo) {
+        return Specification.allOf(
+                equal("role", role),
+                startsWithIgnoreCase("email", emailPrefix),
+                containsIgnoreCase("lastName", lastName),
+                between("createdAt", createdFrom, createdTo));
     }
 
-    public long countUsersByRole(RoleType role) {
-        log.debug("Counting users with role: {}", role);
-        
-        return userRepository.findByRole(role).size();
+    private User saveChecked(User user) {
+        try {
+            return userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            if (String.valueOf(e.getMostSpecificCause().getMessage()).contains("uk_users_email")) {
+                throw new UserAlreadyExistsException("User with email " + user.getEmail() + " already exists");
+            }
+            throw e;
+        }
     }
 }
\ No newline at end of file
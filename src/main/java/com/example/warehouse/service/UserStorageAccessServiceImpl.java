@@ -5,32 +5,45 @@ import com.example.warehouse.entity.UserStorageAccess;
 import com.example.warehouse.entity.User;
 import com.example.warehouse.entity.Storage;
 import com.example.warehouse.enumeration.AccessLevel;
+import com.example.warehouse.event.UserStorageAccessChangedEvent;
 import com.example.warehouse.exception.UserStorageAccessNotFoundException;
 import com.example.warehouse.exception.UserNotFoundException;
 import com.example.warehouse.exception.StorageNotFoundException;
 import com.example.warehouse.exception.DuplicateUserStorageAccessException;
 import com.example.warehouse.exception.OperationNotAllowedException;
 import com.example.warehouse.mapper.UserStorageAccessMapper;
+import com.example.warehouse.repository.UserStorageAccessKey;
+import com.example.warehouse.repository.UserStorageAccessGrantRepository;
 import com.example.warehouse.repository.UserStorageAccessRepository;
 import com.example.warehouse.repository.UserRepository;
 import com.example.warehouse.repository.StorageRepository;
 import com.example.warehouse.service.interfaces.StorageService;
 import com.example.warehouse.service.interfaces.UserService;
 import com.example.warehouse.service.interfaces.UserStorageAccessService;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import static com.example.warehouse.repository.FilterSpecifications.equal;
+import static com.example.warehouse.repository.FilterSpecifications.equalId;
+
 @Slf4j
 @Service
 
@@ -38,8 +51,28 @@ import java.util.stream.Collectors;
 public class UserStorageAccessServiceImpl implements UserStorageAccessService {
 
     private final UserStorageAccessRepository userStorageAccessRepository;
+    private final UserStorageAccessGrantRepository userStorageAccessGrantRepository;
     private final UserService userService;
     private final StorageService storageService;
+    private final AccessDecisionCache accessDecisionCache;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${warehouse.jobs.expired-accesses.batch-size:500}")
+    private int expiredAccessBatchSize;
+
+    @Value("${warehouse.jobs.expired-accesses.max-rows:50000}")
+    private int expiredAccessMaxRows;
+
+    @PostConstruct
+    void validateJobSettings() {
+        if (expiredAccessBatchSize < 1) {
+            throw new IllegalStateException("warehouse.jobs.expired-accesses.batch-size must be at least 1, was " + expiredAccessBatchSize);
+        }
+        if (expiredAccessMaxRows < 0) {
+            throw new IllegalStateException("warehouse.jobs.expired-accesses.max-rows must not be negative, was " + expiredAccessMaxRows);
+        }
+    }
 
     @Override
     public UserStorageAccess create(UserStorageAccess userStorageAccess) {
@@ -50,12 +83,6 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
 
         User grantedBy = userService.getUserById(userStorageAccess.getGrantedBy().getId());
 
-        if (userStorageAccessRepository.existsByUserIdAndStorageId(userStorageAccess.getUser().getId(), userStorageAccess.getStorage().getId())) {
-            throw new DuplicateUserStorageAccessException(
-                    "User storage access already exists for user ID: " + userStorageAccess.getUser().getId() +
-                            " and storage ID: " + userStorageAccess.getStorage().getId());
-        }
-
         if (userStorageAccess.getExpiresAt() != null && userStorageAccess.getExpiresAt().isBefore(LocalDateTime.now())) {
             throw new OperationNotAllowedException("Expiration date must be in the future");
         }
@@ -66,10 +93,16 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
         userStorageAccess.setGrantedBy(grantedBy);
         userStorageAccess.setGrantedAt(LocalDateTime.now());
 
-        UserStorageAccess savedAccess = userStorageAccessRepository.save(userStorageAccess);
-        log.info("User storage access created successfully with ID: {}", savedAccess.getId());
+        long id = userStorageAccessGrantRepository.insertIfAbsent(userStorageAccess)
+                .orElseThrow(() -> new DuplicateUserStorageAccessException(
+                        "User storage access already exists for user ID: " + user.getId() +
+                                " and storage ID: " + storage.getId()));
+        userStorageAccess.setId(id);
 
-        return savedAccess;
+        accessDecisionCache.evict(userStorageAccess);
+        log.info("User storage access created successfully with ID: {}", id);
+
+        return userStorageAccess;
     }
 
     @Override
@@ -92,6 +125,7 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
                 throw new OperationNotAllowedException("Expiration date must be in the future");
             }
 
+            accessDecisionCache.evict(existingAccess);
             updateRelatedEntities(existingAccess, userStorageAccess);
 
             existingAccess.setAccessLevel(userStorageAccess.getAccessLevel());
@@ -99,6 +133,7 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
             existingAccess.setIsActive(userStorageAccess.getIsActive());
 
             userStorageAccessRepository.save(existingAccess);
+            accessDecisionCache.evict(existingAccess);
             log.info("User storage access with ID: {} updated successfully", id);
 
         } catch (DataIntegrityViolationException e) {
@@ -116,14 +151,29 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
     public void delete(Long id) {
         log.info("Deleting user storage access with ID: {}", id);
 
-        if (!userStorageAccessRepository.existsById(id)) {
-            throw new UserStorageAccessNotFoundException("User storage access not found with ID: " + id);
-        }
+        UserStorageAccess access = userStorageAccessRepository.findById(id)
+                .orElseThrow(() -> new UserStorageAccessNotFoundException("User storage access not found with ID: " + id));
 
-        userStorageAccessRepository.deleteById(id);
+        userStorageAccessRepository.delete(access);
+        accessDecisionCache.evict(access);
         log.info("User storage access with ID: {} deleted successfully", id);
     }
 
+    @Override
+    public Window<UserStorageAccess> scroll(ScrollPosition position, int size, Long userId, Long storageId, AccessLevel accessLevel, Boolean active) {
+        log.debug("Scrolling user storage access - size: {}, userId: {}, storageId: {}, accessLevel: {}, active: {}", size, userId, storageId, accessLevel, active);
+
+        return userStorageAccessRepository.findBy(filter(userId, storageId, accessLevel, active), q -> q
+                .sortBy(Sort.by(Sort.Direction.DESC, "grantedAt"))
+                .limit(size)
+                .scroll(position));
+    }
+
+    @Override
+    public long count(Long userId, Long storageId, AccessLevel accessLevel, Boolean active) {
+        return userStorageAccessRepository.count(filter(userId, storageId, accessLevel, active));
+    }
+
     @Override
     public Page<UserStorageAccess> findPage(int page, int size, Long userId, Long storageId,
                                                AccessLevel accessLevel, Boolean active) {
@@ -132,48 +182,7 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "grantedAt"));
 
-        Page<UserStorageAccess> accessPage;
-
-        if (userId != null && storageId != null && accessLevel != null && active != null) {
-            accessPage = userStorageAccessRepository.findByUserIdAndStorageIdAndAccessLevelAndIsActive(
-                    userId, storageId, accessLevel, active, pageable);
-        } else if (userId != null && storageId != null && accessLevel != null) {
-            accessPage = userStorageAccessRepository.findByUserIdAndStorageIdAndAccessLevel(
-                    userId, storageId, accessLevel, pageable);
-        } else if (userId != null && storageId != null && active != null) {
-            accessPage = userStorageAccessRepository.findByUserIdAndStorageIdAndIsActive(
-                    userId, storageId, active, pageable);
-        } else if (userId != null && accessLevel != null && active != null) {
-            accessPage = userStorageAccessRepository.findByUserIdAndAccessLevelAndIsActive(
-                    userId, accessLevel, active, pageable);
-        } else if (storageId != null && accessLevel != null && active != null) {
-            accessPage = userStorageAccessRepository.findByStorageIdAndAccessLevelAndIsActive(
-                    storageId, accessLevel, active, pageable);
-        } else if (userId != null && storageId != null) {
-            accessPage = userStorageAccessRepository.findByUserIdAndStorageId(userId, storageId, pageable);
-        } else if (userId != null && accessLevel != null) {
-            accessPage = userStorageAccessRepository.findByUserIdAndAccessLevel(userId, accessLevel, pageable);
-        } else if (userId != null && active != null) {
-            accessPage = userStorageAccessRepository.findByUserIdAndIsActive(userId, active, pageable);
-        } else if (storageId != null && accessLevel != null) {
-            accessPage = userStorageAccessRepository.findByStorageIdAndAccessLevel(storageId, accessLevel, pageable);
-        } else if (storageId != null && active != null) {
-            accessPage = userStorageAccessRepository.findByStorageIdAndIsActive(storageId, active, pageable);
-        } else if (accessLevel != null && active != null) {
-            accessPage = userStorageAccessRepository.findByAccessLevelAndIsActive(accessLevel, active, pageable);
-        } else if (userId != null) {
-            accessPage = userStorageAccessRepository.findByUserId(userId, pageable);
-        } else if (storageId != null) {
-            accessPage = userStorageAccessRepository.findByStorageId(storageId, pageable);
-        } else if (accessLevel != null) {
-            accessPage = userStorageAccessRepository.findByAccessLevel(accessLevel, pageable);
-        } else if (active != null) {
-            accessPage = userStorageAccessRepository.findByIsActive(active, pageable);
-        } else {
-            accessPage = userStorageAccessRepository.findAll(pageable);
-        }
-
-        return accessPage;
+        return userStorageAccessRepository.findAll(filter(userId, storageId, accessLevel, active), pageable);
     }
 
     private void updateRelatedEntities(UserStorageAccess access, UserStorageAccess userStorageAccess) {
@@ -220,18 +229,15 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
     public boolean hasAccess(Long userId, Long storageId, AccessLevel requiredLevel) {
         log.debug("Checking access for userId: {}, storageId: {}, requiredLevel: {}", userId, storageId, requiredLevel);
 
-        UserStorageAccess access = userStorageAccessRepository.findByUserIdAndStorageId(userId, storageId)
-                .orElse(null);
-
-        if (access == null || !access.getIsActive()) {
-            return false;
-        }
-
-        if (access.getExpiresAt() != null && access.getExpiresAt().isBefore(LocalDateTime.now())) {
-            return false;
+        AccessDecisionCache.Decision decision = accessDecisionCache.get(userId, storageId);
+        if (decision == null) {
+            long generation = accessDecisionCache.generation(userId, storageId);
+            UserStorageAccess access = userStorageAccessRepository.findByUserIdAndStorageId(userId, storageId)
+                    .orElse(null);
+            decision = accessDecisionCache.put(userId, storageId, access, generation);
         }
 
-        return isAccessLevelSufficient(access.getAccessLevel(), requiredLevel);
+        return decision.allows(requiredLevel);
     }
 
 
@@ -243,6 +249,7 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
 
         access.setIsActive(false);
         UserStorageAccess updatedAccess = userStorageAccessRepository.save(access);
+        accessDecisionCache.evict(updatedAccess);
 
         log.info("User storage access with ID: {} deactivated successfully", id);
         return updatedAccess;
@@ -257,6 +264,7 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
 
         access.setIsActive(true);
         UserStorageAccess updatedAccess = userStorageAccessRepository.save(access);
+        accessDecisionCache.evict(updatedAccess);
 
         log.info("User storage access with ID: {} activated successfully", id);
         return updatedAccess;
@@ -283,25 +291,34 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
         return userStorageAccessRepository.findExpiredAccesses(LocalDateTime.now());
     }
 
-
-    public void deactivateExpiredAccesses() {
-        log.info("Deactivating expired user storage accesses");
-
-        List<UserStorageAccess> expiredAccesses = userStorageAccessRepository.findExpiredAccesses(LocalDateTime.now());
-
-        for (UserStorageAccess access : expiredAccesses) {
-            if (access.getIsActive()) {
-                access.setIsActive(false);
-                log.debug("Deactivated expired access with ID: {}", access.getId());
+    @Override
+    public int deactivateExpiredAccesses() {
+        log.debug("Deactivating expired user storage accesses");
+        LocalDateTime now = LocalDateTime.now();
+
+        int total = 0;
+        while (total < expiredAccessMaxRows) {
+            int limit = Math.min(expiredAccessBatchSize, expiredAccessMaxRows - total);
+            List<UserStorageAccessKey> batch = transactionTemplate.execute(tx -> {
+                List<UserStorageAccessKey> keys = userStorageAccessRepository.findExpiredAccessKeys(now, PageRequest.of(0, limit));
+                if (!keys.isEmpty()) {
+                    userStorageAccessRepository.deactivateByIds(keys.stream().map(UserStorageAccessKey::id).toList());
+                }
+                return keys;
+            });
+
+            batch.forEach(key -> eventPublisher.publishEvent(
+                    new UserStorageAccessChangedEvent(key.userId(), key.storageId())));
+            total += batch.size();
+            if (batch.size() < limit) {
+                break;
             }
         }
 
-        userStorageAccessRepository.saveAll(expiredAccesses);
-        log.info("Deactivated {} expired user storage accesses", expiredAccesses.size());
-    }
-
-    private boolean isAccessLevelSufficient(AccessLevel userLevel, AccessLevel requiredLevel) {
-        return userLevel.ordinal() >= requiredLevel.ordinal();
+        if (total > 0) {
+            log.info("Deactivated {} expired user storage accesses", total);
+        }
+        return total;
     }
 
     public long countActiveAccessesByUser(Long userId) {
@@ -313,4 +330,12 @@ public class UserStorageAccessServiceImpl implements UserStorageAccessService {
         log.debug("Counting active accesses for storageId: {}", storageId);
         return userStorageAccessRepository.countByStorageIdAndIsActive(storageId, true);
     }
+
+    private static Specification<UserStorageAccess> filter(Long userId, Long storageId, AccessLevel accessLevel, Boolean active) {
+        return Specification.allOf(
+                equalId("user", userId),
+                equalId("storage", storageId),
+                equal("accessLevel", accessLevel),
+                equal("isActive", active));
+    }
 }
@@ -2,18 +2,26 @@ package com.example.warehouse.service;
 
 import com.example.warehouse.entity.Vehicle;
 import com.example.warehouse.enumeration.VehicleStatus;
+import com.example.warehouse.exception.DuplicateLicensePlateException;
 import com.example.warehouse.repository.VehicleRepository;
 import com.example.warehouse.service.interfaces.VehicleService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
 
+import static com.example.warehouse.repository.FilterSpecifications.equal;
+import static com.example.warehouse.repository.FilterSpecifications.containsIgnoreCase;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -25,11 +33,7 @@ public class VehicleServiceImpl implements VehicleService {
     public Vehicle create(Vehicle vehicle) {
         log.info("Creating new vehicle with license plate: {}", vehicle.getLicensePlate());
 
-        if (vehicleRepository.existsByLicensePlate(vehicle.getLicensePlate())) {
-            throw new IllegalArgumentException("Vehicle with license plate '" + vehicle.getLicensePlate() + "' already exists");
-        }
-
-        Vehicle savedVehicle = vehicleRepository.save(vehicle);
+        Vehicle savedVehicle = saveChecked(vehicle);
 
         log.info("Vehicle created successfully with ID: {}", savedVehicle.getId());
         return savedVehicle;
@@ -78,6 +82,21 @@ public class VehicleServiceImpl implements VehicleService {
         log.info("Vehicle deleted successfully with ID: {}", id);
     }
 
+    @Override
+    public Window<Vehicle> scroll(ScrollPosition position, int size, VehicleStatus status, String brand, String model) {
+        log.debug("Scrolling vehicles - size: {}, status: {}, brand: {}, model: {}", size, status, brand, model);
+
+        return vehicleRepository.findBy(filter(status, brand, model), q -> q
+                .sortBy(Sort.by("brand").and(Sort.by("model")))
+                .limit(size)
+                .scroll(position));
+    }
+
+    @Override
+    public long count(VehicleStatus status, String brand, String model) {
+        return vehicleRepository.count(filter(status, brand, model));
+    }
+
     @Override
     public Page<Vehicle> findPage(int page, int size, VehicleStatus status, String brand, String model) {
         log.info("Finding vehicles page - page: {}, size: {}, status: {}, brand: {}, model: {}",
@@ -85,29 +104,7 @@ public class VehicleServiceImpl implements VehicleService {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by("brand").and(Sort.by("model")));
 
-        Page<Vehicle> vehicles;
-
-        if (status != null && brand != null && model != null) {
-            vehicles = vehicleRepository.findByStatusAndBrandContainingIgnoreCaseAndModelContainingIgnoreCase(
-                    status, brand, model, pageable);
-        } else if (status != null && brand != null) {
-            vehicles = vehicleRepository.findByStatusAndBrandContainingIgnoreCase(status, brand, pageable);
-        } else if (status != null && model != null) {
-            vehicles = vehicleRepository.findByStatusAndModelContainingIgnoreCase(status, model, pageable);
-        } else if (brand != null && model != null) {
-            vehicles = vehicleRepository.findByBrandContainingIgnoreCaseAndModelContainingIgnoreCase(
-                    brand, model, pageable);
-        } else if (status != null) {
-            vehicles = vehicleRepository.findByStatus(status, pageable);
-        } else if (brand != null) {
-            vehicles = vehicleRepository.findByBrandContainingIgnoreCase(brand, pageable);
-        } else if (model != null) {
-            vehicles = vehicleRepository.findByModelContainingIgnoreCase(model, pageable);
-        } else {
-            vehicles = vehicleRepository.findAll(pageable);
-        }
-
-        return vehicles;
+        return vehicleRepository.findAll(filter(status, brand, model), pageable);
     }
 
     public List<Vehicle> findByStatus(VehicleStatus status) {
@@ -124,4 +121,23 @@ public class VehicleServiceImpl implements VehicleService {
     public List<Vehicle> findAvailableVehicles() {
         return findByStatus(VehicleStatus.AVAILABLE);
     }
-}
\ No newline at end of file
+
+    private static Specification<Vehicle> filter(VehicleStatus status, String brand, String model) {
+        return Specification.allOf(
+                equal("status", status),
+                containsIgnoreCase("brand", brand),
+                containsIgnoreCase("model", model));
+    }
+
+    private Vehicle saveChecked(Vehicle vehicle) {
+        try {
+            return vehicleRepository.saveAndFlush(vehicle);
+        } catch (DataIntegrityViolationException e) {
+            if (String.valueOf(e.getMostSpecificCause().getMessage()).contains("uk_vehicles_license_plate")) {
+                throw new DuplicateLicensePlateException(
+                        "Vehicle with license plate '" + vehicle.getLicensePlate() + "' already exists");
+            }
+            throw e;
+        }
+    }
+}
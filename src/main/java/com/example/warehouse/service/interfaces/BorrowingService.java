@@ -4,6 +4,8 @@ import com.example.warehouse.dto.BorrowingDTO;
 import com.example.warehouse.entity.Borrowing;
 import com.example.warehouse.enumeration.BorrowStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDateTime;
 
@@ -16,5 +18,11 @@ public interface BorrowingService {
     void cancel(Long id);
     Page<Borrowing> findPage(int page, int size, BorrowStatus status, Long userId, Long itemId,
                                 LocalDateTime from, LocalDateTime to);
+    Window<Borrowing> scroll(ScrollPosition position, int size, BorrowStatus status, Long userId, Long itemId,
+                             LocalDateTime from, LocalDateTime to);
+    long count(BorrowStatus status, Long userId, Long itemId, LocalDateTime from, LocalDateTime to);
     Page<Borrowing> findOverdue(int page, int size);
+    Window<Borrowing> scrollOverdue(ScrollPosition position, int size);
+    long countOverdue();
+    int updateOverdueBorrowings();
 }
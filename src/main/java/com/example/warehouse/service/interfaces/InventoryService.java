@@ -0,0 +1,10 @@
+package com.example.warehouse.service.interfaces;
+
+import com.example.warehouse.dto.StorageInventoryDTO;
+
+import java.time.LocalDateTime;
+
+public interface InventoryService {
+    StorageInventoryDTO getInventory(Long storageId, LocalDateTime asOf);
+    int takeSnapshots();
+}
@@ -3,6 +3,8 @@ package com.example.warehouse.service.interfaces;
 import com.example.warehouse.entity.ItemMaintenance;
 import com.example.warehouse.enumeration.MaintenanceStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 public interface ItemMaintenanceService {
     ItemMaintenance create(ItemMaintenance itemMaintenance);
@@ -10,4 +12,6 @@ public interface ItemMaintenanceService {
     void update(Long id, ItemMaintenance itemMaintenance);
     void delete(Long id);
     Page<ItemMaintenance> findPage(int page, int size, Long itemId, MaintenanceStatus status);
+    Window<ItemMaintenance> scroll(ScrollPosition position, int size, Long itemId, MaintenanceStatus status);
+    long count(Long itemId, MaintenanceStatus status);
 }
@@ -5,6 +5,8 @@ import com.example.warehouse.entity.Item;
 import com.example.warehouse.enumeration.ItemCondition;
 import com.example.warehouse.enumeration.ItemType;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -15,6 +17,9 @@ public interface ItemService {
     void update(Long id, Item item);
     void delete(Long id);
     Page<Item> findPage(int page, int size, ItemType type, ItemCondition condition);
+    Window<Item> scroll(ScrollPosition position, int size, ItemType type, ItemCondition condition);
+    long count(ItemType type, ItemCondition condition);
+    Window<Item> search(String query, ScrollPosition position, int size);
     List<Item> findAvailable(LocalDateTime from, LocalDateTime to, Long storageId,
                                 ItemType type, ItemCondition condition, Long cursor, int limit);
 }
@@ -0,0 +1,11 @@
+package com.example.warehouse.service.interfaces;
+
+import com.example.warehouse.entity.JobRun;
+import com.example.warehouse.enumeration.JobRunStatus;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+
+public interface JobRunService {
+    Page<JobRun> findPage(int page, int size, String jobName, JobRunStatus status, LocalDateTime from, LocalDateTime to);
+}
@@ -3,6 +3,8 @@ package com.example.warehouse.service.interfaces;
 import com.example.warehouse.dto.KeepingDTO;
 import com.example.warehouse.entity.Keeping;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 public interface KeepingService {
     Keeping create(Keeping keeping);
@@ -10,4 +12,6 @@ public interface KeepingService {
     void update(Long id, Keeping keeping);
     void delete(Long id);
     Page<Keeping> findPage(int page, int size, Long storageId, Long itemId);
+    Window<Keeping> scroll(ScrollPosition position, int size, Long storageId, Long itemId);
+    long count(Long storageId, Long itemId);
 }
@@ -0,0 +1,7 @@
+package com.example.warehouse.service.interfaces;
+
+import com.example.warehouse.dto.StatisticsDTO;
+
+public interface StatisticsService {
+    StatisticsDTO getStatistics();
+}
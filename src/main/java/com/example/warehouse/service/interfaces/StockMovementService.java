@@ -0,0 +1,18 @@
+package com.example.warehouse.service.interfaces;
+
+import com.example.warehouse.entity.StockMovement;
+import com.example.warehouse.enumeration.StockMovementType;
+import org.springframework.data.domain.Page;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface StockMovementService {
+    StockMovement receive(Long storageId, Long itemId, int quantity, String reference, String reason);
+    StockMovement issue(Long storageId, Long itemId, int quantity, String reference, String reason);
+    StockMovement adjust(Long storageId, Long itemId, int delta, String reference, String reason);
+    void checkAvailable(Long storageId, Long itemId, int quantity);
+    List<StockMovement> transfer(Long fromStorageId, Long toStorageId, Long itemId, int quantity, String reference, String reason);
+    Page<StockMovement> findPage(int page, int size, Long storageId, Long itemId, StockMovementType type,
+                                 LocalDateTime from, LocalDateTime to);
+}
@@ -2,6 +2,8 @@ package com.example.warehouse.service.interfaces;
 
 import com.example.warehouse.entity.Storage;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 public interface StorageService {
     Storage create(Storage storage);
@@ -9,4 +11,6 @@ public interface StorageService {
     void update(Long id, Storage storage);
     void delete(Long id);
     Page<Storage> findPage(int page, int size, String nameLike);
+    Window<Storage> scroll(ScrollPosition position, int size, String nameLike);
+    long count(String nameLike);
 }
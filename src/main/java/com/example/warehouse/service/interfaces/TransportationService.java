@@ -1,15 +1,24 @@
 package com.example.warehouse.service.interfaces;
 
+import com.example.warehouse.dto.TransportationBatchResultDTO;
 import com.example.warehouse.dto.TransportationDTO;
 import com.example.warehouse.entity.Transportation;
 import com.example.warehouse.enumeration.TransportStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
+import java.util.List;
 
 public interface TransportationService {
     Transportation create(Transportation transportation);
+    List<TransportationBatchResultDTO> createBatch(List<Transportation> transportations);
     Transportation getById(Long id);
     void update(Long id, Transportation transportation);
     void delete(Long id);
     Page<Transportation> findPage(int page, int size, TransportStatus status, Long itemId,
                                      Long fromStorageId, Long toStorageId);
+    Window<Transportation> scroll(ScrollPosition position, int size, TransportStatus status, Long itemId, Long fromStorageId, Long toStorageId);
+    long count(TransportStatus status, Long itemId, Long fromStorageId, Long toStorageId);
+    int markDelayedTransportations();
 }
@@ -5,16 +5,18 @@ import com.example.warehouse.dto.UserDTO.UserResponseDTO;
 import com.example.warehouse.entity.User;
 import com.example.warehouse.enumeration.RoleType;
 
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
+
 import java.time.LocalDateTime;
-import java.util.List;
 
 public interface UserService {
     User createUser(User user);
     User getUserById(Long id);
     User getUserByEmail(String email);
-    List<User> getAllUsers();
-    List<User> getUsersByRole(RoleType role);
-    List<User> searchUsersByLastName(String lastName);
+    Window<User> scroll(ScrollPosition position, int size, RoleType role, String emailPrefix, String lastName,
+                        LocalDateTime createdFrom, LocalDateTime createdTo);
+    long count(RoleType role, String emailPrefix, String lastName, LocalDateTime createdFrom, LocalDateTime createdTo);
     User updateUser(Long id, User user);
     void deleteUser(Long id);
     boolean existsByEmail(String email);
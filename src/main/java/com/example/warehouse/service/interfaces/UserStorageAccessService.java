@@ -3,6 +3,8 @@ package com.example.warehouse.service.interfaces;
 import com.example.warehouse.entity.UserStorageAccess;
 import com.example.warehouse.enumeration.AccessLevel;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 public interface UserStorageAccessService {
     UserStorageAccess create(UserStorageAccess userStorageAccess);
@@ -10,4 +12,7 @@ public interface UserStorageAccessService {
     void update(Long id, UserStorageAccess userStorageAccess);
     void delete(Long id);
     Page<UserStorageAccess> findPage(int page, int size, Long userId, Long storageId, AccessLevel accessLevel, Boolean active);
+    Window<UserStorageAccess> scroll(ScrollPosition position, int size, Long userId, Long storageId, AccessLevel accessLevel, Boolean active);
+    long count(Long userId, Long storageId, AccessLevel accessLevel, Boolean active);
+    int deactivateExpiredAccesses();
 }
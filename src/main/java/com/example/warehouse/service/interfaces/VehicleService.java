@@ -3,6 +3,8 @@ package com.example.warehouse.service.interfaces;
 import com.example.warehouse.entity.Vehicle;
 import com.example.warehouse.enumeration.VehicleStatus;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Window;
 
 public interface VehicleService {
     Vehicle create(Vehicle vehicle);
@@ -10,4 +12,6 @@ public interface VehicleService {
     void update(Long id, Vehicle Vehicle);
     void delete(Long id);
     Page<Vehicle> findPage(int page, int size, VehicleStatus status, String brand, String model);
+    Window<Vehicle> scroll(ScrollPosition position, int size, VehicleStatus status, String brand, String model);
+    long count(VehicleStatus status, String brand, String model);
 }
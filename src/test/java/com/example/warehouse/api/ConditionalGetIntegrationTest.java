@@ -0,0 +1,138 @@
+package com.example.warehouse.api;
+
+import com.example.warehouse.entity.Storage;
+import com.example.warehouse.repository.StorageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@Testcontainers
+@SpringBootTest(properties = "warehouse.jobs.enabled=false")
+@AutoConfigureMockMvc
+@Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class ConditionalGetIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private StorageRepository storageRepository;
+
+    private Storage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = storageRepository.save(Storage.builder()
+                .name("Main Warehouse")
+                .address("123 Main St")
+                .capacity(1000)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void getById_ShouldReturn304_WhenETagMatches() throws Exception {
+        String etag = etagOf("/api/v1/storages/" + storage.getId());
+
+        mvc.perform(get("/api/v1/storages/{id}", storage.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void getById_ShouldReturn200WithNewETag_WhenTableChanged() throws Exception {
+        String etag = etagOf("/api/v1/storages/" + storage.getId());
+
+        storage.setCapacity(2000);
+        storageRepository.save(storage);
+
+        String newEtag = mvc.perform(get("/api/v1/storages/{id}", storage.getId()).header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(newEtag);
+        assertNotEquals(etag, newEtag);
+    }
+
+    @Test
+    void list_ShouldReturn304_UntilAnotherRowIsWritten() throws Exception {
+        String etag = etagOf("/api/v1/storages");
+
+        mvc.perform(get("/api/v1/storages").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified());
+
+        storageRepository.save(Storage.builder()
+                .name("Secondary Storage")
+                .address("456 Oak Ave")
+                .capacity(500)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        mvc.perform(get("/api/v1/storages").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void list_ShouldUseDifferentETags_ForDifferentQueries() throws Exception {
+        assertNotEquals(etagOf("/api/v1/storages?nameLike=main"), etagOf("/api/v1/storages?nameLike=other"));
+    }
+
+    @Test
+    void getById_ShouldReturn200_WhenOnlyIfModifiedSinceSentAfterSameSecondWrite() throws Exception {
+        HttpHeaders conditional = new HttpHeaders();
+        conditional.setIfModifiedSince(Instant.now());
+
+        mvc.perform(get("/api/v1/storages/{id}", storage.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.LAST_MODIFIED));
+
+        storage.setCapacity(2000);
+        storageRepository.save(storage);
+
+        mvc.perform(get("/api/v1/storages/{id}", storage.getId()).headers(conditional))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.capacity").value(2000));
+    }
+
+    private String etagOf(String uri) throws Exception {
+        String etag = mvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotNull(etag);
+        return etag;
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.warehouse.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConnectionPermitFilterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void doFilter_ShouldPassThroughAndReleasePermit_WhenPermitAvailable() throws Exception {
+        ConnectionPermitFilter filter = new ConnectionPermitFilter(1, Duration.ofMillis(50), objectMapper);
+        AtomicInteger permitsDuringCall = new AtomicInteger(-1);
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/items"), new MockHttpServletResponse(),
+                (req, resp) -> permitsDuringCall.set(filter.availablePermits()));
+
+        assertThat(permitsDuringCall.get()).isZero();
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void doFilter_ShouldReturn503_WhenNoPermitWithinTimeout() throws Exception {
+        ConnectionPermitFilter filter = new ConnectionPermitFilter(1, Duration.ofMillis(50), objectMapper);
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Thread holder = new Thread(() -> {
+            try {
+                filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/items"), new MockHttpServletResponse(),
+                        (req, resp) -> {
+                            holding.countDown();
+                            try {
+                                release.await();
+                            } catch (InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                            }
+                        });
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        holder.start();
+        holding.await();
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/items"), response, new MockFilterChain());
+
+        release.countDown();
+        holder.join();
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getHeader("Retry-After")).isEqualTo("1");
+        assertThat(response.getContentAsString()).contains("\"code\":\"SERVICE_UNAVAILABLE\"");
+        assertThat(filter.availablePermits()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.warehouse.dataset;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+@SpringBootTest(properties = "warehouse.jobs.enabled=false")
+class DatasetGeneratorIntegrationTest {
+
+    private static final LocalDateTime ANCHOR = LocalDateTime.of(2025, 6, 1, 0, 0);
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generate_ShouldLoadEveryTable() throws SQLException {
+        Map<String, Long> loaded = generate(42);
+
+        assertEquals(9, loaded.size());
+        loaded.forEach((table, rows) -> {
+            assertTrue(rows > 0, table + " is empty");
+            assertEquals(rows, jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Long.class), table);
+        });
+        assertEquals(2_000L, loaded.get("items"));
+        assertEquals(6_000L, loaded.get("borrowings"));
+    }
+
+    @Test
+    void generate_ShouldProduceSameRows_ForSameSeedAndAnchor() throws SQLException {
+        generate(7);
+        String first = checksum();
+
+        generate(7);
+        assertEquals(first, checksum());
+
+        generate(8);
+        assertNotEquals(first, checksum());
+    }
+
+    @Test
+    void generate_ShouldLeaveExpiredRowsForPeriodicJobs() throws SQLException {
+        generate(42);
+
+        assertTrue(count("SELECT count(*) FROM borrowings WHERE status = 'ACTIVE' AND expected_return_date < ?") > 0);
+        assertTrue(count("SELECT count(*) FROM user_storage_access WHERE is_active AND expires_at < ?") > 0);
+        assertTrue(count("SELECT count(*) FROM transportations WHERE status = 'PLANNED' AND scheduled_departure > ?") > 0);
+    }
+
+    @Test
+    void generate_ShouldContinueSequencesAfterLoadedIds() throws SQLException {
+        generate(42);
+
+        Long maxId = jdbcTemplate.queryForObject("SELECT max(id) FROM items", Long.class);
+        Long nextId = jdbcTemplate.queryForObject("SELECT nextval('items_seq')", Long.class);
+        assertTrue(nextId > maxId);
+    }
+
+    @Test
+    void parse_ShouldAcceptSuffixes() {
+        assertEquals(1_000_000L, DatasetScale.parse("1M").items());
+        assertEquals(250_000L, DatasetScale.parse("250k").items());
+        assertEquals(1_500L, DatasetScale.parse("1500").items());
+        assertThrows(IllegalArgumentException.class, () -> DatasetScale.parse("0"));
+    }
+
+    private Map<String, Long> generate(long seed) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return new DatasetGenerator(seed, ANCHOR).generate(connection, DatasetScale.of(2_000));
+        }
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class, ANCHOR);
+    }
+
+    private String checksum() {
+        return jdbcTemplate.queryForObject("SELECT md5(string_agg(b::text, '|' ORDER BY b.id)) || " +
+                "(SELECT md5(string_agg(t::text, '|' ORDER BY t.id)) FROM transportations t) || " +
+                "(SELECT md5(string_agg(a::text, '|' ORDER BY a.id)) FROM user_storage_access a) " +
+                "FROM borrowings b", String.class);
+    }
+}
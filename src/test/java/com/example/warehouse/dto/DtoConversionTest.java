@@ -189,6 +189,7 @@ public class DtoConversionTest {
         Storage to = new Storage();
         to.setId(505L);
         t.setToStorage(to);
+        t.setQuantity(3);
         t.setStatus(TransportStatus.IN_TRANSIT);
         t.setScheduledDeparture(LocalDateTime.of(2025, 11, 1, 8, 0));
         t.setActualDeparture(LocalDateTime.of(2025, 11, 1, 8, 15));
@@ -204,6 +205,7 @@ public class DtoConversionTest {
         assertThat(dto.driverId()).isEqualTo(503L);
         assertThat(dto.fromStorageId()).isEqualTo(504L);
         assertThat(dto.toStorageId()).isEqualTo(505L);
+        assertThat(dto.quantity()).isEqualTo(3);
         assertThat(dto.status()).isEqualTo(TransportStatus.IN_TRANSIT);
         assertThat(dto.scheduledDeparture()).isEqualTo(LocalDateTime.of(2025, 11, 1, 8, 0));
         assertThat(dto.actualDeparture()).isEqualTo(LocalDateTime.of(2025, 11, 1, 8, 15));
@@ -0,0 +1,103 @@
+package com.example.warehouse.job;
+
+import com.example.warehouse.entity.JobRun;
+import com.example.warehouse.enumeration.JobRunStatus;
+import com.example.warehouse.repository.JobLeaseRepository;
+import com.example.warehouse.repository.JobRunRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+@SpringBootTest(properties = "warehouse.jobs.enabled=false")
+@Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class JobRunnerIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JobRunner jobRunner;
+
+    @Autowired
+    private JobLeaseRepository jobLeaseRepository;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Test
+    void run_ShouldRecordSucceededRunWithRows() {
+        Optional<JobRun> run = jobRunner.run("test-job", () -> 42);
+
+        assertTrue(run.isPresent());
+        JobRun saved = jobRunRepository.findById(run.get().getId()).orElseThrow();
+        assertEquals(JobRunStatus.SUCCEEDED, saved.getStatus());
+        assertEquals(42, saved.getRowsAffected());
+        assertEquals(jobRunner.owner(), saved.getOwner());
+        assertNotNull(saved.getFinishedAt());
+        assertNotNull(saved.getDurationMs());
+    }
+
+    @Test
+    void run_ShouldSkip_WhenLeaseHeldByAnotherInstance() {
+        assertTrue(jobLeaseRepository.tryAcquire("test-job", "other-node", 600));
+        AtomicBoolean executed = new AtomicBoolean();
+
+        Optional<JobRun> run = jobRunner.run("test-job", () -> {
+            executed.set(true);
+            return 1;
+        });
+
+        assertTrue(run.isEmpty());
+        assertFalse(executed.get());
+        assertEquals(0, jobRunRepository.count());
+    }
+
+    @Test
+    void run_ShouldTakeOverLease_WhenPreviousLeaseExpired() {
+        assertTrue(jobLeaseRepository.tryAcquire("test-job", "other-node", 0));
+
+        assertTrue(jobRunner.run("test-job", () -> 0).isPresent());
+    }
+
+    @Test
+    void run_ShouldReleaseLease_AfterRun() {
+        jobRunner.run("test-job", () -> 0);
+
+        assertTrue(jobLeaseRepository.tryAcquire("test-job", "other-node", 600));
+    }
+
+    @Test
+    void run_ShouldRecordFailedRun_WhenJobThrows() {
+        Optional<JobRun> run = jobRunner.run("test-job", () -> {
+            throw new IllegalStateException("boom");
+        });
+
+        assertTrue(run.isPresent());
+        JobRun saved = jobRunRepository.findById(run.get().getId()).orElseThrow();
+        assertEquals(JobRunStatus.FAILED, saved.getStatus());
+        assertNull(saved.getRowsAffected());
+        assertTrue(saved.getErrorMessage().contains("boom"));
+    }
+}
@@ -175,6 +175,7 @@ public class MapperToEntityTest {
                 503L,
                 504L,
                 505L,
+                3,
                 TransportStatus.IN_TRANSIT,
                 LocalDateTime.of(2025, 11, 1, 8, 0),
                 LocalDateTime.of(2025, 11, 1, 8, 15),
@@ -0,0 +1,85 @@
+package com.example.warehouse.metrics;
+
+import com.example.warehouse.exception.ItemNotFoundException;
+import com.example.warehouse.repository.TransportationBatchRepository;
+import com.example.warehouse.service.AccessDecisionCache;
+import com.example.warehouse.service.ItemServiceImpl;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+@SpringBootTest(properties = "warehouse.jobs.enabled=false")
+@Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class OperationTimingAspectIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ItemServiceImpl itemService;
+
+    @Autowired
+    private TransportationBatchRepository transportationBatchRepository;
+
+    @Autowired
+    private AccessDecisionCache accessDecisionCache;
+
+    @Test
+    void serviceCall_ShouldBeTimedWithExceptionTag_WhenItThrows() {
+        assertThrows(ItemNotFoundException.class, () -> itemService.getById(999L));
+
+        Timer timer = meterRegistry.find(OperationTimingAspect.SERVICE_TIMER)
+                .tags("service", "ItemServiceImpl", "method", "getById", "exception", "ItemNotFoundException")
+                .timer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+    }
+
+    @Test
+    void jdbcRepositoryCall_ShouldBeTimed() {
+        transportationBatchRepository.findExistingItemIds(List.of(1L));
+
+        Timer timer = meterRegistry.find(OperationTimingAspect.REPOSITORY_TIMER)
+                .tags("repository", "TransportationBatchRepository", "method", "findExistingItemIds")
+                .timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() >= 1);
+    }
+
+    @Test
+    void accessDecisionCache_ShouldExposeHitAndMissCounters() {
+        accessDecisionCache.get(1L, 2L);
+
+        FunctionCounter misses = meterRegistry.find("warehouse.access.cache.requests").tag("result", "miss").functionCounter();
+        assertNotNull(misses);
+        assertTrue(misses.count() >= 1);
+        assertNotNull(meterRegistry.find("warehouse.access.cache.requests").tag("result", "hit").functionCounter());
+    }
+}
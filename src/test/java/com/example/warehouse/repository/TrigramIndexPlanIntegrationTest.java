@@ -0,0 +1,142 @@
+package com.example.warehouse.repository;
+
+import com.example.warehouse.service.interfaces.StorageService;
+import com.example.warehouse.service.interfaces.UserService;
+import com.example.warehouse.service.interfaces.VehicleService;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the substring filters through the services, records the SQL Hibernate sends and
+ * explains every filtered statement with sequential scans disabled, so these tests fail if the
+ * rendered expression or the operator class of the trigram indexes stops matching, regardless
+ * of table size. Placeholders are explained as a generic plan, which needs Postgres 16.
+ */
+@Testcontainers
+@SpringBootTest(properties = {
+        "warehouse.jobs.enabled=false",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+                "com.example.warehouse.repository.TrigramIndexPlanIntegrationTest$RecordingStatementInspector"
+})
+class TrigramIndexPlanIntegrationTest {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\?");
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VehicleService vehicleService;
+
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private UserService userService;
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void vehicleBrandFilter_ShouldUseTrigramIndex() {
+        vehicleService.findPage(0, 20, null, "ord", null);
+
+        assertPlansUse("vehicles", "idx_vehicles_brand_trgm");
+    }
+
+    @Test
+    void vehicleModelFilter_ShouldUseTrigramIndex() {
+        vehicleService.findPage(0, 20, null, null, "transit");
+
+        assertPlansUse("vehicles", "idx_vehicles_model_trgm");
+    }
+
+    @Test
+    void storageNameFilter_ShouldUseTrigramIndex() {
+        storageService.findPage(0, 20, "warehouse");
+
+        assertPlansUse("storages", "idx_storages_name_trgm");
+    }
+
+    @Test
+    void userLastNameFilter_ShouldUseTrigramIndex() {
+        userService.scroll(ScrollPosition.keyset(), 20, null, null, "smith", null, null);
+        userService.count(null, null, "smith", null, null);
+
+        assertPlansUse("users", "idx_users_last_name_trgm");
+    }
+
+    private void assertPlansUse(String table, String index) {
+        List<String> filtered = RecordingStatementInspector.STATEMENTS.stream()
+                .filter(sql -> sql.contains(" " + table + " ") && sql.contains(" like "))
+                .toList();
+        assertFalse(filtered.isEmpty(), "no filtered statement on " + table + " was recorded");
+        for (String sql : filtered) {
+            String plan = explain(sql);
+            assertTrue(plan.contains(index), () -> sql + "\n" + plan);
+        }
+    }
+
+    private String explain(String sql) {
+        Matcher matcher = PLACEHOLDER.matcher(sql);
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        while (matcher.find()) {
+            matcher.appendReplacement(numbered, "\\$" + ++parameter);
+        }
+        matcher.appendTail(numbered);
+
+        return new TransactionTemplate(transactionManager).execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (GENERIC_PLAN) " + numbered, String.class));
+        });
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
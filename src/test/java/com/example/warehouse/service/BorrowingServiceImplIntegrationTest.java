@@ -21,6 +21,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -464,13 +465,24 @@ class BorrowingServiceImplIntegrationTest {
     }
 
     @Test
-    void findOverdue_ShouldUpdateStatusToOverdue() {
+    void findOverdue_ShouldNotChangeStatus() {
         assertEquals(BorrowStatus.ACTIVE, testOverdueBorrowing.getStatus());
 
+        borrowingService.findOverdue(0, 10);
+
+        Borrowing unchangedBorrowing = borrowingRepository.findById(testOverdueBorrowing.getId()).orElseThrow();
+        assertEquals(BorrowStatus.ACTIVE, unchangedBorrowing.getStatus());
+    }
+
+    @Test
+    void findOverdue_ShouldReturnBorrowingsAlreadyMarkedOverdue() {
+        borrowingService.updateOverdueBorrowings();
+
         Page<Borrowing> result = borrowingService.findOverdue(0, 10);
 
-        Borrowing updatedBorrowing = borrowingRepository.findById(testOverdueBorrowing.getId()).orElseThrow();
-        assertEquals(BorrowStatus.OVERDUE, updatedBorrowing.getStatus());
+        assertEquals(1, result.getTotalElements());
+        assertEquals(testOverdueBorrowing.getId(), result.getContent().get(0).getId());
+        assertEquals(BorrowStatus.OVERDUE, result.getContent().get(0).getStatus());
     }
 
     @Test
@@ -485,4 +497,24 @@ class BorrowingServiceImplIntegrationTest {
         Borrowing nonOverdueBorrowing = borrowingRepository.findById(testBorrowing.getId()).orElseThrow();
         assertEquals(BorrowStatus.ACTIVE, nonOverdueBorrowing.getStatus());
     }
+
+    @Test
+    void validateJobSettings_ShouldRejectNonPositiveBatchSizeAndNegativeMaxRows() {
+        BorrowingServiceImpl service = new BorrowingServiceImpl(null, null, null, null);
+        ReflectionTestUtils.setField(service, "overdueBatchSize", 0);
+        ReflectionTestUtils.setField(service, "overdueMaxRows", 100);
+        assertThrows(IllegalStateException.class, service::validateJobSettings);
+
+        ReflectionTestUtils.setField(service, "overdueBatchSize", 1);
+        ReflectionTestUtils.setField(service, "overdueMaxRows", -1);
+        assertThrows(IllegalStateException.class, service::validateJobSettings);
+    }
+
+    @Test
+    void updateOverdueBorrowings_ShouldReturnNumberOfUpdatedRows() {
+        int updated = borrowingService.updateOverdueBorrowings();
+
+        assertEquals(1, updated);
+        assertEquals(0, borrowingService.updateOverdueBorrowings());
+    }
 }
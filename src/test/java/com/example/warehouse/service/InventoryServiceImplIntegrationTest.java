@@ -0,0 +1,150 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.dto.InventoryLineDTO;
+import com.example.warehouse.dto.StorageInventoryDTO;
+import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.Storage;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.exception.StorageNotFoundException;
+import com.example.warehouse.repository.ItemRepository;
+import com.example.warehouse.repository.StorageRepository;
+import com.example.warehouse.service.interfaces.InventoryService;
+import com.example.warehouse.service.interfaces.StockMovementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+@SpringBootTest(properties = {
+        "warehouse.jobs.enabled=false",
+        "warehouse.jobs.inventory-snapshots.lag-seconds=0"
+})
+@Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class InventoryServiceImplIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private StockMovementService stockMovementService;
+
+    @Autowired
+    private StorageRepository storageRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private Storage storage;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        storage = storageRepository.save(Storage.builder()
+                .name("Main Warehouse")
+                .address("123 Main St")
+                .capacity(1000)
+                .createdAt(LocalDateTime.now())
+                .build());
+        item = itemRepository.save(Item.builder()
+                .name("Cable reel")
+                .type(ItemType.MATERIALS)
+                .condition(ItemCondition.NEW)
+                .serialNumber("INV-1")
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void getInventory_ShouldRollBackLiveQuantities_WhenNoSnapshotExists() throws Exception {
+        stockMovementService.receive(storage.getId(), item.getId(), 10, null, null);
+        LocalDateTime afterReceive = pause();
+        stockMovementService.issue(storage.getId(), item.getId(), 4, null, null);
+
+        StorageInventoryDTO past = inventoryService.getInventory(storage.getId(), afterReceive);
+
+        assertNull(past.snapshotTakenAt());
+        assertEquals(List.of(new InventoryLineDTO(item.getId(), 10)), past.lines());
+    }
+
+    @Test
+    void getInventory_ShouldReplayFromNearestSnapshot() throws Exception {
+        stockMovementService.receive(storage.getId(), item.getId(), 10, null, null);
+        LocalDateTime afterReceive = pause();
+        stockMovementService.issue(storage.getId(), item.getId(), 4, null, null);
+        pause();
+        assertEquals(1, inventoryService.takeSnapshots());
+        pause();
+        stockMovementService.receive(storage.getId(), item.getId(), 5, null, null);
+
+        StorageInventoryDTO current = inventoryService.getInventory(storage.getId(), null);
+        StorageInventoryDTO past = inventoryService.getInventory(storage.getId(), afterReceive);
+
+        assertNotNull(current.snapshotTakenAt());
+        assertEquals(List.of(new InventoryLineDTO(item.getId(), 11)), current.lines());
+        assertNotNull(past.snapshotTakenAt());
+        assertEquals(List.of(new InventoryLineDTO(item.getId(), 10)), past.lines());
+    }
+
+    @Test
+    void getInventory_ShouldBeEmpty_BeforeAnyStockArrived() throws Exception {
+        LocalDateTime beforeReceive = pause();
+        stockMovementService.receive(storage.getId(), item.getId(), 3, null, null);
+        inventoryService.takeSnapshots();
+
+        assertTrue(inventoryService.getInventory(storage.getId(), beforeReceive).lines().isEmpty());
+    }
+
+    @Test
+    void takeSnapshots_ShouldRollForwardFromPreviousSnapshot() throws Exception {
+        stockMovementService.receive(storage.getId(), item.getId(), 7, null, null);
+        pause();
+        inventoryService.takeSnapshots();
+        pause();
+        stockMovementService.issue(storage.getId(), item.getId(), 2, null, null);
+        pause();
+        inventoryService.takeSnapshots();
+        LocalDateTime afterSecondSnapshot = pause();
+
+        StorageInventoryDTO inventory = inventoryService.getInventory(storage.getId(), afterSecondSnapshot);
+
+        assertEquals(List.of(new InventoryLineDTO(item.getId(), 5)), inventory.lines());
+    }
+
+    @Test
+    void getInventory_ShouldThrow_WhenStorageNotFound() {
+        assertThrows(StorageNotFoundException.class, () -> inventoryService.getInventory(999L, null));
+    }
+
+    private static LocalDateTime pause() throws InterruptedException {
+        Thread.sleep(20);
+        LocalDateTime now = LocalDateTime.now();
+        Thread.sleep(20);
+        return now;
+    }
+}
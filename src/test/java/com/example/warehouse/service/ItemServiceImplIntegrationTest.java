@@ -1,19 +1,34 @@
 package com.example.warehouse.service;
 
+import com.example.warehouse.api.KeysetCursor;
+import com.example.warehouse.entity.Borrowing;
 import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.Keeping;
+import com.example.warehouse.entity.Storage;
+import com.example.warehouse.entity.User;
+import com.example.warehouse.enumeration.BorrowStatus;
 import com.example.warehouse.enumeration.ItemCondition;
 import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.RoleType;
 import com.example.warehouse.exception.ItemNotFoundException;
 import com.example.warehouse.exception.DuplicateSerialNumberException;
+import com.example.warehouse.exception.ValidationException;
+import com.example.warehouse.repository.BorrowingRepository;
 import com.example.warehouse.repository.ItemRepository;
+import com.example.warehouse.repository.KeepingRepository;
+import com.example.warehouse.repository.StorageRepository;
+import com.example.warehouse.repository.UserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
@@ -45,6 +60,18 @@ class ItemServiceImplIntegrationTest {
     @Autowired
     private ItemRepository itemRepository;
 
+    @Autowired
+    private BorrowingRepository borrowingRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StorageRepository storageRepository;
+
+    @Autowired
+    private KeepingRepository keepingRepository;
+
     private Item testItem1;
     private Item testItem2;
     private Item testItem3;
@@ -413,6 +440,37 @@ class ItemServiceImplIntegrationTest {
         assertEquals(testItem1.getId(), content.get(2).getId());
     }
 
+    @Test
+    void scroll_ShouldWalkAllItemsInCreatedAtOrder_WhenFollowingCursor() {
+        Window<Item> first = itemService.scroll(KeysetCursor.decode(""), 2, null, null);
+
+        assertEquals(2, first.size());
+        assertTrue(first.hasNext());
+        assertEquals(testItem3.getId(), first.getContent().get(0).getId());
+        assertEquals(testItem2.getId(), first.getContent().get(1).getId());
+
+        String cursor = KeysetCursor.encode(first.positionAt(first.size() - 1));
+        Window<Item> second = itemService.scroll(KeysetCursor.decode(cursor), 2, null, null);
+
+        assertEquals(1, second.size());
+        assertFalse(second.hasNext());
+        assertEquals(testItem1.getId(), second.getContent().get(0).getId());
+    }
+
+    @Test
+    void scroll_ShouldApplyFilters_WhenTypeSpecified() {
+        Window<Item> result = itemService.scroll(KeysetCursor.decode(null), 10, ItemType.ELECTRONICS, null);
+
+        assertEquals(2, result.size());
+        assertFalse(result.hasNext());
+        assertEquals(2, itemService.count(ItemType.ELECTRONICS, null));
+    }
+
+    @Test
+    void scroll_ShouldThrowValidationException_WhenCursorMalformed() {
+        assertThrows(ValidationException.class, () -> KeysetCursor.decode("not-a-cursor"));
+    }
+
     @Test
     void findAvailable_ShouldReturnAllItems_WhenNoFiltersAndNoCursor() {
         List<Item> result = itemService.findAvailable(
@@ -541,6 +599,157 @@ class ItemServiceImplIntegrationTest {
         ));
     }
 
+    @Test
+    void findAvailable_ShouldExcludeItem_WhenBorrowedDuringWindow() {
+        User borrower = userRepository.save(User.builder()
+                .email("borrower@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(RoleType.STUDENT)
+                .build());
+        borrowingRepository.save(Borrowing.builder()
+                .item(testItem1)
+                .user(borrower)
+                .quantity(1)
+                .status(BorrowStatus.ACTIVE)
+                .borrowDate(LocalDateTime.now().minusDays(1))
+                .expectedReturnDate(LocalDateTime.now().plusDays(3))
+                .build());
+
+        List<Item> result = itemService.findAvailable(
+                LocalDateTime.now(),
+                LocalDateTime.now().plusDays(1),
+                null, null, null, null, 10
+        );
+
+        assertEquals(2, result.size());
+        assertTrue(result.stream().noneMatch(item -> item.getId().equals(testItem1.getId())));
+    }
+
+    @Test
+    void findAvailable_ShouldIncludeItem_WhenBorrowingEndsBeforeWindow() {
+        User borrower = userRepository.save(User.builder()
+                .email("borrower@example.com")
+                .firstName("John")
+                .lastName("Doe")
+                .role(RoleType.STUDENT)
+                .build());
+        borrowingRepository.save(Borrowing.builder()
+                .item(testItem1)
+                .user(borrower)
+                .quantity(1)
+                .status(BorrowStatus.ACTIVE)
+                .borrowDate(LocalDateTime.now().minusDays(1))
+                .expectedReturnDate(LocalDateTime.now().plusDays(1))
+                .build());
+
+        List<Item> result = itemService.findAvailable(
+                LocalDateTime.now().plusDays(2),
+                LocalDateTime.now().plusDays(4),
+                null, null, null, null, 10
+        );
+
+        assertEquals(3, result.size());
+    }
+
+    @Test
+    void findAvailable_ShouldReturnOnlyItemsKeptInStorage_WhenStorageIdSpecified() {
+        Storage storage = storageRepository.save(Storage.builder()
+                .name("Main Warehouse")
+                .address("123 Main St")
+                .capacity(100)
+                .build());
+        keepingRepository.save(Keeping.builder()
+                .storage(storage)
+                .item(testItem2)
+                .quantity(1)
+                .build());
+
+        List<Item> result = itemService.findAvailable(
+                LocalDateTime.now(),
+                LocalDateTime.now().plusDays(1),
+                storage.getId(), null, null, null, 10
+        );
+
+        assertEquals(1, result.size());
+        assertEquals(testItem2.getId(), result.get(0).getId());
+    }
+
+    @Test
+    void findAvailable_ShouldThrowException_WhenFromNotBeforeTo() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertThrows(IllegalArgumentException.class, () -> itemService.findAvailable(
+                now, now, null, null, null, null, 10
+        ));
+    }
+
+    @Test
+    void search_ShouldRankNameMatchesAboveDescriptionMatches() {
+        Item desk = itemRepository.save(Item.builder()
+                .name("Standing Desk")
+                .type(ItemType.FURNITURE)
+                .condition(ItemCondition.NEW)
+                .serialNumber("DK000001")
+                .description("Pairs with the office chair")
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        Window<Item> result = itemService.search("chair", KeysetCursor.decode(null), 10);
+
+        assertEquals(List.of(testItem2.getId(), desk.getId()), result.stream().map(Item::getId).toList());
+        assertFalse(result.hasNext());
+    }
+
+    @Test
+    void search_ShouldMatchWordPrefixes() {
+        Window<Item> result = itemService.search("lap xp", KeysetCursor.decode(null), 10);
+
+        assertEquals(List.of(testItem1.getId()), result.stream().map(Item::getId).toList());
+    }
+
+    @Test
+    void search_ShouldMatchSerialNumberPrefix_IgnoringCase() {
+        Window<Item> result = itemService.search("sn78", KeysetCursor.decode(null), 10);
+
+        assertEquals(List.of(testItem2.getId()), result.stream().map(Item::getId).toList());
+    }
+
+    @Test
+    void search_ShouldContinueFromCursor() {
+        Window<Item> first = itemService.search("SN", KeysetCursor.decode(null), 2);
+        assertEquals(2, first.size());
+        assertTrue(first.hasNext());
+
+        String cursor = KeysetCursor.encode(first.positionAt(first.size() - 1));
+        Window<Item> second = itemService.search("SN", KeysetCursor.decode(cursor), 2);
+
+        assertEquals(List.of(testItem3.getId()), second.stream().map(Item::getId).toList());
+        assertFalse(second.hasNext());
+    }
+
+    @Test
+    void search_ShouldRankAtMostMaxCandidates_WhenQueryIsBroad() {
+        ItemServiceImpl target = AopTestUtils.getTargetObject(itemService);
+        ReflectionTestUtils.setField(target, "searchMaxCandidates", 2);
+        try {
+            Window<Item> first = itemService.search("SN", KeysetCursor.decode(null), 1);
+            String cursor = KeysetCursor.encode(first.positionAt(first.size() - 1));
+            Window<Item> second = itemService.search("SN", KeysetCursor.decode(cursor), 1);
+
+            assertTrue(first.hasNext());
+            assertEquals(1, second.size());
+            assertFalse(second.hasNext());
+        } finally {
+            ReflectionTestUtils.setField(target, "searchMaxCandidates", 1000);
+        }
+    }
+
+    @Test
+    void search_ShouldThrowValidationException_WhenQueryBlank() {
+        assertThrows(ValidationException.class, () -> itemService.search("  ", KeysetCursor.decode(null), 10));
+    }
+
     @Test
     void findPage_ShouldReturnEmptyPage_WhenPageOutOfRange() {
         Page<Item> result = itemService.findPage(10, 10, null, null);
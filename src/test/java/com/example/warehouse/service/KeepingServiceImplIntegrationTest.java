@@ -9,6 +9,7 @@ import com.example.warehouse.exception.KeepingNotFoundException;
 import com.example.warehouse.exception.StorageNotFoundException;
 import com.example.warehouse.exception.ItemNotFoundException;
 import com.example.warehouse.exception.DuplicateKeepingException;
+import com.example.warehouse.exception.ValidationException;
 import com.example.warehouse.repository.KeepingRepository;
 import com.example.warehouse.repository.StorageRepository;
 import com.example.warehouse.repository.ItemRepository;
@@ -25,7 +26,12 @@ import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import static org.junit.jupiter.api.Assertions.*;
 
 @Testcontainers
@@ -248,7 +254,7 @@ class KeepingServiceImplIntegrationTest {
     }
 
     @Test
-    void create_ShouldThrowDuplicateKeepingException_WhenKeepingExists() {
+    void create_ShouldAddToQuantity_WhenKeepingExists() {
         Keeping duplicateKeeping = new Keeping(
                 null,
                 testStorage1,
@@ -258,13 +264,43 @@ class KeepingServiceImplIntegrationTest {
                 null
         );
 
-        DuplicateKeepingException exception = assertThrows(
-                DuplicateKeepingException.class,
-                () -> keepingService.create(duplicateKeeping)
-        );
+        Keeping result = keepingService.create(duplicateKeeping);
 
-        assertTrue(exception.getMessage().contains("Keeping record already exists for storage ID: " +
-                testStorage1.getId() + " and item ID: " + testItem1.getId()));
+        assertEquals(testKeeping1.getId(), result.getId());
+        assertEquals(8, result.getQuantity());
+        assertEquals("Different Shelf", result.getShelf());
+        assertEquals(2, keepingRepository.count());
+        assertEquals(8, keepingRepository.findById(testKeeping1.getId()).orElseThrow().getQuantity());
+    }
+
+    @Test
+    void create_ShouldKeepSingleRow_WhenSameItemCreatedConcurrently() throws Exception {
+        int writers = 20;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<Keeping>> tasks = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            tasks.add(() -> keepingService.create(new Keeping(null, testStorage2, testItem1, 2, null, null)));
+        }
+
+        try {
+            for (Future<Keeping> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        Page<Keeping> result = keepingService.findPage(0, 10, testStorage2.getId(), testItem1.getId());
+        assertEquals(1, result.getTotalElements());
+        assertEquals(writers * 2, result.getContent().get(0).getQuantity());
+    }
+
+    @Test
+    void create_ShouldThrowValidationException_WhenQuantityNegative() {
+        Keeping negativeKeeping = new Keeping(null, testStorage1, testItem1, -3, null, null);
+
+        assertThrows(ValidationException.class, () -> keepingService.create(negativeKeeping));
+        assertEquals(5, keepingRepository.findById(testKeeping1.getId()).orElseThrow().getQuantity());
     }
 
     @Test
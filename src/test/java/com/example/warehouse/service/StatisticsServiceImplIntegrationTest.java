@@ -0,0 +1,150 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.dto.StatisticsDTO;
+import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.User;
+import com.example.warehouse.entity.Vehicle;
+import com.example.warehouse.enumeration.BorrowStatus;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.RoleType;
+import com.example.warehouse.enumeration.TransportStatus;
+import com.example.warehouse.enumeration.VehicleStatus;
+import com.example.warehouse.repository.ItemRepository;
+import com.example.warehouse.repository.UserRepository;
+import com.example.warehouse.repository.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+@SpringBootTest(properties = {
+        "warehouse.jobs.enabled=false",
+        "warehouse.stats.ttl-seconds=3600"
+})
+@Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class StatisticsServiceImplIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private StatisticsServiceImpl statisticsService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @BeforeEach
+    void setUp() {
+        statisticsService.evict();
+
+        saveUser("admin@example.com", RoleType.ADMIN);
+        saveUser("student1@example.com", RoleType.STUDENT);
+        saveUser("student2@example.com", RoleType.STUDENT);
+
+        saveItem("SN-1", ItemType.ELECTRONICS, ItemCondition.NEW);
+        saveItem("SN-2", ItemType.ELECTRONICS, ItemCondition.NEW);
+        saveItem("SN-3", ItemType.ELECTRONICS, ItemCondition.GOOD);
+        saveItem("SN-4", ItemType.TOOLS, ItemCondition.FAIR);
+
+        saveVehicle("STA001", VehicleStatus.AVAILABLE);
+        saveVehicle("STA002", VehicleStatus.MAINTENANCE);
+    }
+
+    @Test
+    void getStatistics_ShouldCountEveryFamily() {
+        StatisticsDTO statistics = statisticsService.getStatistics();
+
+        assertEquals(1L, statistics.usersByRole().get(RoleType.ADMIN));
+        assertEquals(2L, statistics.usersByRole().get(RoleType.STUDENT));
+        assertEquals(0L, statistics.usersByRole().get(RoleType.DRIVER));
+
+        assertEquals(2L, statistics.itemsByTypeAndCondition().get(ItemType.ELECTRONICS).get(ItemCondition.NEW));
+        assertEquals(1L, statistics.itemsByTypeAndCondition().get(ItemType.ELECTRONICS).get(ItemCondition.GOOD));
+        assertEquals(1L, statistics.itemsByTypeAndCondition().get(ItemType.TOOLS).get(ItemCondition.FAIR));
+        assertEquals(0L, statistics.itemsByTypeAndCondition().get(ItemType.FURNITURE).get(ItemCondition.NEW));
+
+        assertEquals(1L, statistics.vehiclesByStatus().get(VehicleStatus.AVAILABLE));
+        assertEquals(1L, statistics.vehiclesByStatus().get(VehicleStatus.MAINTENANCE));
+        assertEquals(0L, statistics.vehiclesByStatus().get(VehicleStatus.IN_USE));
+    }
+
+    @Test
+    void getStatistics_ShouldReportZeros_WhenFamilyHasNoRows() {
+        StatisticsDTO statistics = statisticsService.getStatistics();
+
+        assertEquals(BorrowStatus.values().length, statistics.borrowingsByStatus().size());
+        assertTrue(statistics.borrowingsByStatus().values().stream().allMatch(count -> count == 0));
+        assertEquals(TransportStatus.values().length, statistics.transportationsByStatus().size());
+        assertTrue(statistics.maintenanceByStatus().values().stream().allMatch(count -> count == 0));
+    }
+
+    @Test
+    void getStatistics_ShouldServeCachedCounts_UntilEvicted() {
+        StatisticsDTO first = statisticsService.getStatistics();
+        saveUser("admin2@example.com", RoleType.ADMIN);
+
+        assertSame(first, statisticsService.getStatistics());
+
+        statisticsService.evict();
+        assertEquals(2L, statisticsService.getStatistics().usersByRole().get(RoleType.ADMIN));
+    }
+
+    private void saveUser(String email, RoleType role) {
+        userRepository.save(User.builder()
+                .firstName("Test")
+                .lastName("User")
+                .email(email)
+                .role(role)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void saveItem(String serialNumber, ItemType type, ItemCondition condition) {
+        itemRepository.save(Item.builder()
+                .name("Item " + serialNumber)
+                .type(type)
+                .condition(condition)
+                .serialNumber(serialNumber)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    private void saveVehicle(String licensePlate, VehicleStatus status) {
+        vehicleRepository.save(Vehicle.builder()
+                .licensePlate(licensePlate)
+                .brand("Ford")
+                .model("Transit")
+                .year(2024)
+                .capacity(1000)
+                .status(status)
+                .build());
+    }
+}
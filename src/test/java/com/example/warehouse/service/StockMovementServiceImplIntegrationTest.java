@@ -0,0 +1,198 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.Keeping;
+import com.example.warehouse.entity.StockMovement;
+import com.example.warehouse.entity.Storage;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.StockMovementType;
+import com.example.warehouse.exception.InsufficientStockException;
+import com.example.warehouse.exception.KeepingNotFoundException;
+import com.example.warehouse.repository.ItemRepository;
+import com.example.warehouse.repository.StockMovementRepository;
+import com.example.warehouse.repository.StorageRepository;
+import com.example.warehouse.service.interfaces.KeepingService;
+import com.example.warehouse.service.interfaces.StockMovementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+@SpringBootTest(properties = "warehouse.jobs.enabled=false")
+@Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class StockMovementServiceImplIntegrationTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private StockMovementService stockMovementService;
+
+    @Autowired
+    private KeepingService keepingService;
+
+    @Autowired
+    private StockMovementRepository stockMovementRepository;
+
+    @Autowired
+    private StorageRepository storageRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Storage storage1;
+    private Storage storage2;
+    private Item item;
+
+    @BeforeEach
+    void setUp() {
+        storage1 = storageRepository.save(Storage.builder()
+                .name("Main Warehouse")
+                .address("123 Main St")
+                .capacity(1000)
+                .createdAt(LocalDateTime.now())
+                .build());
+        storage2 = storageRepository.save(Storage.builder()
+                .name("Secondary Storage")
+                .address("456 Oak Ave")
+                .capacity(500)
+                .createdAt(LocalDateTime.now())
+                .build());
+        item = itemRepository.save(Item.builder()
+                .name("Cable reel")
+                .type(ItemType.MATERIALS)
+                .condition(ItemCondition.NEW)
+                .serialNumber("SM-1")
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @Test
+    void receive_ShouldCreateKeepingAndLedgerRow_WhenItemNotKeptYet() {
+        StockMovement movement = stockMovementService.receive(storage1.getId(), item.getId(), 12, "PO-1", "Delivery");
+
+        assertEquals(StockMovementType.RECEIVE, movement.getType());
+        assertEquals(12, movement.getDelta());
+        assertEquals(12, movement.getQuantityAfter());
+        assertEquals(12, quantity(storage1));
+        assertEquals(1, stockMovementRepository.count());
+    }
+
+    @Test
+    void issue_ShouldThrowAndLeaveStockUntouched_WhenNotEnoughStock() {
+        stockMovementService.receive(storage1.getId(), item.getId(), 3, null, null);
+
+        assertThrows(InsufficientStockException.class,
+                () -> stockMovementService.issue(storage1.getId(), item.getId(), 4, null, null));
+
+        assertEquals(3, quantity(storage1));
+        assertEquals(1, stockMovementRepository.count());
+    }
+
+    @Test
+    void issue_ShouldThrowKeepingNotFound_WhenItemNotKeptInStorage() {
+        assertThrows(KeepingNotFoundException.class,
+                () -> stockMovementService.issue(storage1.getId(), item.getId(), 1, null, null));
+    }
+
+    @Test
+    void adjust_ShouldAllowReachingZero() {
+        stockMovementService.receive(storage1.getId(), item.getId(), 5, null, null);
+
+        StockMovement movement = stockMovementService.adjust(storage1.getId(), item.getId(), -5, null, "Stock take");
+
+        assertEquals(0, movement.getQuantityAfter());
+        assertEquals(0, quantity(storage1));
+    }
+
+    @Test
+    void transfer_ShouldMoveStockAndWriteBothLegs() {
+        stockMovementService.receive(storage2.getId(), item.getId(), 10, null, null);
+
+        List<StockMovement> legs = stockMovementService.transfer(storage2.getId(), storage1.getId(), item.getId(), 4, "T-1", null);
+
+        assertEquals(2, legs.size());
+        assertEquals(-4, legs.get(0).getDelta());
+        assertEquals(4, legs.get(1).getDelta());
+        assertEquals(6, quantity(storage2));
+        assertEquals(4, quantity(storage1));
+    }
+
+    @Test
+    void issue_ShouldNotLoseUpdates_WhenManyWritersHitSameKeeping() throws Exception {
+        stockMovementService.receive(storage1.getId(), item.getId(), 100, null, null);
+        int writers = 40;
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Callable<StockMovement>> tasks = new ArrayList<>();
+        for (int i = 0; i < writers; i++) {
+            tasks.add(() -> stockMovementService.issue(storage1.getId(), item.getId(), 2, null, null));
+        }
+
+        try {
+            for (Future<StockMovement> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(100 - writers * 2, quantity(storage1));
+        assertEquals(writers + 1, stockMovementRepository.count());
+    }
+
+    @Test
+    void keepingUpdate_ShouldRecordDifferenceAsAdjustment() {
+        Keeping keeping = keepingService.create(Keeping.builder().storage(storage1).item(item).quantity(5).build());
+
+        keepingService.update(keeping.getId(),
+                new Keeping(keeping.getId(), storage1, item, 8, "A1", null));
+
+        List<Integer> deltas = jdbcTemplate.queryForList(
+                "SELECT delta FROM stock_movements ORDER BY id", Integer.class);
+        assertEquals(List.of(5, 3), deltas);
+    }
+
+    @Test
+    void ledger_ShouldRejectUpdates() {
+        stockMovementService.receive(storage1.getId(), item.getId(), 1, null, null);
+
+        assertThrows(Exception.class, () -> jdbcTemplate.update("UPDATE stock_movements SET delta = 2"));
+    }
+
+    private int quantity(Storage storage) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM keeping WHERE storage_id = ? AND item_id = ?",
+                Integer.class, storage.getId(), item.getId());
+    }
+}
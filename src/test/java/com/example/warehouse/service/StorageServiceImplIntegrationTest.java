@@ -489,6 +489,12 @@ class StorageServiceImplIntegrationTest {
         assertTrue(result.getContent().isEmpty());
     }
 
+    @Test
+    void findPage_ShouldMatchWildcardsLiterally() {
+        assertEquals(0, storageService.findPage(0, 10, "%").getTotalElements());
+        assertEquals(0, storageService.findPage(0, 10, "_").getTotalElements());
+    }
+
     @Test
     void findPage_ShouldReturnPagedResults_WhenPageSizeSmallerThanTotal() {
         Page<Storage> result = storageService.findPage(0, 2, null);
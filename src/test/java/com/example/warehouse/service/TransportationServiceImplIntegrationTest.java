@@ -1,5 +1,6 @@
 package com.example.warehouse.service;
 
+import com.example.warehouse.dto.TransportationBatchResultDTO;
 import com.example.warehouse.entity.Transportation;
 import com.example.warehouse.entity.Item;
 import com.example.warehouse.entity.Vehicle;
@@ -12,19 +13,23 @@ import com.example.warehouse.exception.VehicleNotFoundException;
 import com.example.warehouse.exception.UserNotFoundException;
 import com.example.warehouse.exception.StorageNotFoundException;
 import com.example.warehouse.exception.OperationNotAllowedException;
+import com.example.warehouse.exception.InsufficientStockException;
 import com.example.warehouse.repository.TransportationRepository;
 import com.example.warehouse.repository.ItemRepository;
 import com.example.warehouse.repository.VehicleRepository;
 import com.example.warehouse.repository.UserRepository;
 import com.example.warehouse.repository.StorageRepository;
+import com.example.warehouse.service.interfaces.StockMovementService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
@@ -72,6 +77,12 @@ class TransportationServiceImplIntegrationTest {
     @Autowired
     private StorageRepository storageRepository;
 
+    @Autowired
+    private StockMovementService stockMovementService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     private Item testItem1;
     private Item testItem2;
     private Vehicle testVehicle1;
@@ -118,6 +129,9 @@ class TransportationServiceImplIntegrationTest {
         testStorage2 = createStorage("Secondary Storage", "456 Oak Ave", 500);
         testStorage3 = createStorage("Tertiary Storage", "789 Pine Rd", 300);
 
+        stockMovementService.receive(testStorage1.getId(), testItem1.getId(), 5, null, null);
+        stockMovementService.receive(testStorage2.getId(), testItem2.getId(), 5, null, null);
+
         // Создаем тестовые транспортировки
         testTransportationPlanned = createTransportation(
                 testItem1, testVehicle1, testDriver1, testStorage1, testStorage2,
@@ -198,6 +212,11 @@ class TransportationServiceImplIntegrationTest {
         return storageRepository.save(storage);
     }
 
+    private int quantity(Storage storage, Item item) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM keeping WHERE storage_id = ? AND item_id = ?",
+                Integer.class, storage.getId(), item.getId());
+    }
+
     private Transportation createTransportation(Item item, Vehicle vehicle, User driver,
                                                 Storage fromStorage, Storage toStorage,
                                                 TransportStatus status,
@@ -320,6 +339,151 @@ class TransportationServiceImplIntegrationTest {
         assertTrue(exception.getMessage().contains("From and to storage cannot be the same"));
     }
 
+    @Test
+    void create_ShouldThrowOperationNotAllowedException_WhenDriverBookedWithinWindow() {
+        Transportation newTransportation = Transportation.builder()
+                .item(testItem2)
+                .vehicle(testVehicle2)
+                .driver(testDriver1)
+                .fromStorage(testStorage1)
+                .toStorage(testStorage3)
+                .scheduledDeparture(testTransportationPlanned.getScheduledDeparture().minusHours(12))
+                .scheduledArrival(testTransportationPlanned.getScheduledArrival().plusDays(1))
+                .build();
+
+        OperationNotAllowedException exception = assertThrows(
+                OperationNotAllowedException.class,
+                () -> transportationService.create(newTransportation)
+        );
+
+        assertTrue(exception.getMessage().contains("Driver is not available"));
+    }
+
+    @Test
+    void create_ShouldCreateTransportation_WhenWindowStartsAtExistingArrival() {
+        Transportation newTransportation = Transportation.builder()
+                .item(testItem2)
+                .vehicle(testVehicle1)
+                .driver(testDriver1)
+                .fromStorage(testStorage2)
+                .toStorage(testStorage3)
+                .scheduledDeparture(testTransportationPlanned.getScheduledArrival())
+                .scheduledArrival(testTransportationPlanned.getScheduledArrival().plusDays(1))
+                .build();
+
+        Transportation result = transportationService.create(newTransportation);
+
+        assertNotNull(result.getId());
+        assertEquals(TransportStatus.PLANNED, result.getStatus());
+    }
+
+    @Test
+    void create_ShouldThrowOperationNotAllowedException_WhenArrivalBeforeDeparture() {
+        Transportation newTransportation = Transportation.builder()
+                .item(testItem2)
+                .vehicle(testVehicle2)
+                .driver(testDriver2)
+                .fromStorage(testStorage1)
+                .toStorage(testStorage3)
+                .scheduledDeparture(LocalDateTime.now().plusDays(5))
+                .scheduledArrival(LocalDateTime.now().plusDays(4))
+                .build();
+
+        OperationNotAllowedException exception = assertThrows(
+                OperationNotAllowedException.class,
+                () -> transportationService.create(newTransportation)
+        );
+
+        assertTrue(exception.getMessage().contains("Scheduled arrival must not be before scheduled departure"));
+    }
+
+    @Test
+    void update_ShouldThrowOperationNotAllowedException_WhenRescheduledOntoVehicleBooking() {
+        Transportation other = createTransportation(
+                testItem2, testVehicle1, testDriver2, testStorage2, testStorage1,
+                TransportStatus.PLANNED,
+                LocalDateTime.now().plusDays(3), null,
+                LocalDateTime.now().plusDays(4), null,
+                LocalDateTime.now()
+        );
+
+        Transportation updateTransportation = Transportation.builder()
+                .item(testTransportationPlanned.getItem())
+                .vehicle(testTransportationPlanned.getVehicle())
+                .driver(testTransportationPlanned.getDriver())
+                .fromStorage(testTransportationPlanned.getFromStorage())
+                .toStorage(testTransportationPlanned.getToStorage())
+                .status(TransportStatus.PLANNED)
+                .scheduledDeparture(other.getScheduledDeparture().plusHours(6))
+                .scheduledArrival(other.getScheduledArrival().plusHours(6))
+                .build();
+
+        OperationNotAllowedException exception = assertThrows(
+                OperationNotAllowedException.class,
+                () -> transportationService.update(testTransportationPlanned.getId(), updateTransportation)
+        );
+
+        assertTrue(exception.getMessage().contains("Vehicle is not available"));
+    }
+
+    @Test
+    void createBatch_ShouldCreateAllRows_WhenNoConflicts() {
+        LocalDateTime base = LocalDateTime.now().plusDays(10);
+        List<Transportation> batch = List.of(
+                batchRow(testItem1, testVehicle1, testDriver1, base, base.plusHours(4)),
+                batchRow(testItem2, testVehicle1, testDriver1, base.plusHours(4), base.plusHours(8)),
+                batchRow(testItem2, testVehicle2, testDriver2, base, base.plusHours(8))
+        );
+
+        List<TransportationBatchResultDTO> results = transportationService.createBatch(batch);
+
+        assertEquals(3, results.size());
+        assertTrue(results.stream().allMatch(TransportationBatchResultDTO::created));
+        Long createdId = results.get(1).transportation().id();
+        Transportation saved = transportationRepository.findById(createdId).orElseThrow();
+        assertEquals(TransportStatus.PLANNED, saved.getStatus());
+        assertEquals(testDriver1.getId(), saved.getDriver().getId());
+    }
+
+    @Test
+    void createBatch_ShouldRejectRowsIndividually_WhenInvalidOrConflicting() {
+        LocalDateTime base = LocalDateTime.now().plusDays(10);
+        Item missingItem = Item.builder().id(999999L).build();
+        List<Transportation> batch = List.of(
+                batchRow(testItem1, testVehicle2, testDriver2, base, base.plusHours(4)),
+                batchRow(testItem2, testVehicle1, testDriver2, base.plusHours(2), base.plusHours(6)),
+                batchRow(missingItem, testVehicle1, testDriver1, base, base.plusHours(4)),
+                batchRow(testItem2, testVehicle1, testDriver1,
+                        testTransportationPlanned.getScheduledDeparture().plusHours(1),
+                        testTransportationPlanned.getScheduledArrival().plusHours(1))
+        );
+        long before = transportationRepository.count();
+
+        List<TransportationBatchResultDTO> results = transportationService.createBatch(batch);
+
+        assertTrue(results.get(0).created());
+        assertFalse(results.get(1).created());
+        assertTrue(results.get(1).error().contains("Driver is not available"));
+        assertFalse(results.get(2).created());
+        assertTrue(results.get(2).error().contains("Item not found with ID: 999999"));
+        assertFalse(results.get(3).created());
+        assertTrue(results.get(3).error().contains("Driver is not available"));
+        assertEquals(before + 1, transportationRepository.count());
+    }
+
+    private Transportation batchRow(Item item, Vehicle vehicle, User driver,
+                                    LocalDateTime departure, LocalDateTime arrival) {
+        return Transportation.builder()
+                .item(item)
+                .vehicle(vehicle)
+                .driver(driver)
+                .fromStorage(testStorage1)
+                .toStorage(testStorage2)
+                .scheduledDeparture(departure)
+                .scheduledArrival(arrival)
+                .build();
+    }
+
     @Test
     void getById_ShouldReturnTransportation_WhenTransportationExists() {
         Transportation result = transportationService.getById(testTransportationPlanned.getId());
@@ -411,6 +575,28 @@ class TransportationServiceImplIntegrationTest {
         assertNotNull(updatedTransportation.getActualDeparture());
     }
 
+    @Test
+    void update_ShouldThrowInsufficientStock_WhenStartedWithSourceShort() {
+        Transportation updateTransportation = Transportation.builder()
+                .item(testTransportationPlanned.getItem())
+                .vehicle(testTransportationPlanned.getVehicle())
+                .driver(testTransportationPlanned.getDriver())
+                .fromStorage(testTransportationPlanned.getFromStorage())
+                .toStorage(testTransportationPlanned.getToStorage())
+                .quantity(6)
+                .status(TransportStatus.IN_TRANSIT)
+                .scheduledDeparture(testTransportationPlanned.getScheduledDeparture())
+                .scheduledArrival(testTransportationPlanned.getScheduledArrival())
+                .build();
+
+        assertThrows(InsufficientStockException.class,
+                () -> transportationService.update(testTransportationPlanned.getId(), updateTransportation));
+
+        Transportation unchanged = transportationRepository.findById(testTransportationPlanned.getId()).orElseThrow();
+        assertEquals(TransportStatus.PLANNED, unchanged.getStatus());
+        assertNull(unchanged.getActualDeparture());
+    }
+
     @Test
     void update_ShouldSetActualArrival_WhenStatusChangedToDelivered() {
         Transportation updateTransportation = Transportation.builder()
@@ -429,6 +615,7 @@ class TransportationServiceImplIntegrationTest {
         Transportation updatedTransportation = transportationRepository.findById(testTransportationInTransit.getId()).orElseThrow();
         assertEquals(TransportStatus.DELIVERED, updatedTransportation.getStatus());
         assertNotNull(updatedTransportation.getActualArrival());
+        assertEquals(1, quantity(testStorage3, testItem2));
     }
 
     @Test
@@ -569,6 +756,15 @@ class TransportationServiceImplIntegrationTest {
         assertTrue(result.getContent().isEmpty());
     }
 
+    @Test
+    void findPage_ShouldApplyEveryFilter_WhenFromAndToStorageCombined() {
+        Page<Transportation> result = transportationService.findPage(0, 10, null, null,
+                testStorage1.getId(), testStorage3.getId());
+
+        assertEquals(1, result.getTotalElements());
+        assertEquals(testTransportationCancelled.getId(), result.getContent().get(0).getId());
+    }
+
     @Test
     void findPage_ShouldReturnPagedResults_WhenPageSizeSmallerThanTotal() {
         Page<Transportation> result = transportationService.findPage(0, 2, null, null, null, null);
@@ -615,6 +811,32 @@ class TransportationServiceImplIntegrationTest {
         assertNotNull(updatedTransportation.getActualArrival());
     }
 
+    @Test
+    void completeTransportation_ShouldMoveStockToDestination() {
+        transportationService.completeTransportation(testTransportationInTransit.getId());
+
+        assertEquals(4, quantity(testStorage2, testItem2));
+        assertEquals(1, quantity(testStorage3, testItem2));
+    }
+
+    @Test
+    void completeTransportation_ShouldThrowInsufficientStock_WhenSourceShort() {
+        jdbcTemplate.update("UPDATE keeping SET quantity = 0 WHERE storage_id = ?", testStorage2.getId());
+
+        assertThrows(InsufficientStockException.class,
+                () -> transportationService.completeTransportation(testTransportationInTransit.getId()));
+    }
+
+    @Test
+    void startTransportation_ShouldThrowInsufficientStock_WhenSourceShort() {
+        testTransportationPlanned.setQuantity(6);
+        transportationRepository.saveAndFlush(testTransportationPlanned);
+
+        assertThrows(InsufficientStockException.class,
+                () -> transportationService.startTransportation(testTransportationPlanned.getId()));
+        assertEquals(5, quantity(testStorage1, testItem1));
+    }
+
     @Test
     void completeTransportation_ShouldThrowOperationNotAllowedException_WhenNotInTransit() {
         OperationNotAllowedException exception = assertThrows(
@@ -690,4 +912,35 @@ class TransportationServiceImplIntegrationTest {
         assertEquals(existingActualDeparture, updatedTransportation.getActualDeparture());
         assertEquals(existingActualArrival, updatedTransportation.getActualArrival());
     }
-}
\ No newline at end of file
+
+    @Test
+    void validateJobSettings_ShouldRejectNonPositiveBatchSizeAndNegativeMaxRows() {
+        TransportationServiceImpl service = new TransportationServiceImpl(null, null, null, null, null, null, null, null);
+        ReflectionTestUtils.setField(service, "delayedBatchSize", 0);
+        ReflectionTestUtils.setField(service, "delayedMaxRows", 100);
+        assertThrows(IllegalStateException.class, service::validateJobSettings);
+
+        ReflectionTestUtils.setField(service, "delayedBatchSize", 1);
+        ReflectionTestUtils.setField(service, "delayedMaxRows", -1);
+        assertThrows(IllegalStateException.class, service::validateJobSettings);
+    }
+
+    @Test
+    void markDelayedTransportations_ShouldDelayInTransitPastScheduledArrival() {
+        Transportation late = createTransportation(
+                testItem1, testVehicle1, testDriver1, testStorage1, testStorage3,
+                TransportStatus.IN_TRANSIT,
+                LocalDateTime.now().minusHours(6), LocalDateTime.now().minusHours(6),
+                LocalDateTime.now().minusHours(4), null,
+                LocalDateTime.now().minusDays(1)
+        );
+
+        int updated = transportationService.markDelayedTransportations();
+
+        assertEquals(1, updated);
+        assertEquals(TransportStatus.DELAYED, transportationRepository.findById(late.getId()).orElseThrow().getStatus());
+        assertEquals(TransportStatus.IN_TRANSIT,
+                transportationRepository.findById(testTransportationInTransit.getId()).orElseThrow().getStatus());
+        assertEquals(0, transportationService.markDelayedTransportations());
+    }
+}
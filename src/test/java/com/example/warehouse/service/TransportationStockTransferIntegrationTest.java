@@ -0,0 +1,197 @@
+package com.example.warehouse.service;
+
+import com.example.warehouse.entity.Item;
+import com.example.warehouse.entity.Storage;
+import com.example.warehouse.entity.Transportation;
+import com.example.warehouse.entity.User;
+import com.example.warehouse.entity.Vehicle;
+import com.example.warehouse.enumeration.ItemCondition;
+import com.example.warehouse.enumeration.ItemType;
+import com.example.warehouse.enumeration.RoleType;
+import com.example.warehouse.enumeration.TransportStatus;
+import com.example.warehouse.enumeration.VehicleStatus;
+import com.example.warehouse.exception.OperationNotAllowedException;
+import com.example.warehouse.repository.ItemRepository;
+import com.example.warehouse.repository.StorageRepository;
+import com.example.warehouse.repository.TransportationRepository;
+import com.example.warehouse.repository.UserRepository;
+import com.example.warehouse.repository.VehicleRepository;
+import com.example.warehouse.service.interfaces.StockMovementService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.jdbc.Sql;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@Testcontainers
+@SpringBootTest(properties = "warehouse.jobs.enabled=false")
+@Sql(scripts = "/cleanup.sql", executionPhase = Sql.ExecutionPhase.BEFORE_TEST_METHOD)
+class TransportationStockTransferIntegrationTest {
+
+    private static final int TRANSPORTATIONS = 300;
+    private static final int INITIAL_STOCK = 500;
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine")
+            .withDatabaseName("testdb")
+            .withUsername("test")
+            .withPassword("test");
+
+    @DynamicPropertySource
+    static void configureProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", postgres::getJdbcUrl);
+        registry.add("spring.datasource.username", postgres::getUsername);
+        registry.add("spring.datasource.password", postgres::getPassword);
+    }
+
+    @Autowired
+    private TransportationServiceImpl transportationService;
+
+    @Autowired
+    private StockMovementService stockMovementService;
+
+    @Autowired
+    private TransportationRepository transportationRepository;
+
+    @Autowired
+    private StorageRepository storageRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private VehicleRepository vehicleRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Storage storage1;
+    private Storage storage2;
+    private Item item;
+    private Vehicle vehicle;
+    private User driver;
+
+    @BeforeEach
+    void setUp() {
+        storage1 = storageRepository.save(Storage.builder()
+                .name("Main Warehouse")
+                .address("123 Main St")
+                .capacity(1000)
+                .createdAt(LocalDateTime.now())
+                .build());
+        storage2 = storageRepository.save(Storage.builder()
+                .name("Secondary Storage")
+                .address("456 Oak Ave")
+                .capacity(1000)
+                .createdAt(LocalDateTime.now())
+                .build());
+        item = itemRepository.save(Item.builder()
+                .name("Cable reel")
+                .type(ItemType.MATERIALS)
+                .condition(ItemCondition.NEW)
+                .serialNumber("TR-1")
+                .createdAt(LocalDateTime.now())
+                .build());
+        vehicle = vehicleRepository.save(Vehicle.builder()
+                .licensePlate("TRF001")
+                .brand("TestBrand")
+                .model("Ford Transit")
+                .year(2024)
+                .capacity(1000)
+                .status(VehicleStatus.AVAILABLE)
+                .build());
+        driver = userRepository.save(User.builder()
+                .email("driver@example.com")
+                .firstName("John")
+                .secondName("Middle")
+                .lastName("Driver")
+                .role(RoleType.DRIVER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        stockMovementService.receive(storage1.getId(), item.getId(), INITIAL_STOCK, null, null);
+        stockMovementService.receive(storage2.getId(), item.getId(), INITIAL_STOCK, null, null);
+    }
+
+    @Test
+    void completeTransportation_ShouldConserveStock_WhenManyOppositeTransfersRunConcurrently() throws Exception {
+        List<Long> ids = new ArrayList<>();
+        int toStorage2 = 0;
+        for (int i = 0; i < TRANSPORTATIONS; i++) {
+            boolean forward = i % 3 != 0;
+            ids.add(inTransit(forward ? storage1 : storage2, forward ? storage2 : storage1, 1 + i % 2));
+            if (forward) {
+                toStorage2 += 1 + i % 2;
+            } else {
+                toStorage2 -= 1 + i % 2;
+            }
+        }
+
+        // Every transportation is completed twice; exactly one attempt per row may win.
+        List<Callable<Transportation>> tasks = new ArrayList<>();
+        for (Long id : ids) {
+            tasks.add(() -> transportationService.completeTransportation(id));
+            tasks.add(() -> transportationService.completeTransportation(id));
+        }
+        Collections.shuffle(tasks);
+
+        int completed = 0;
+        int rejected = 0;
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        try {
+            for (Future<Transportation> future : executor.invokeAll(tasks)) {
+                try {
+                    future.get();
+                    completed++;
+                } catch (ExecutionException e) {
+                    assertInstanceOf(OperationNotAllowedException.class, e.getCause());
+                    rejected++;
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(TRANSPORTATIONS, completed);
+        assertEquals(TRANSPORTATIONS, rejected);
+        assertEquals(TRANSPORTATIONS, transportationRepository.countByStatus(TransportStatus.DELIVERED));
+        assertEquals(INITIAL_STOCK - toStorage2, quantity(storage1));
+        assertEquals(INITIAL_STOCK + toStorage2, quantity(storage2));
+        assertEquals(2 + TRANSPORTATIONS * 2, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM stock_movements", Integer.class));
+    }
+
+    private long inTransit(Storage from, Storage to, int quantity) {
+        // No schedule, so the driver and vehicle exclusion constraints do not apply.
+        return jdbcTemplate.queryForObject("INSERT INTO transportations (item_id, vehicle_id, driver_id, " +
+                        "from_storage_id, to_storage_id, quantity, status, actual_departure, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, 'IN_TRANSIT', LOCALTIMESTAMP, LOCALTIMESTAMP) RETURNING id",
+                Long.class, item.getId(), vehicle.getId(), driver.getId(), from.getId(), to.getId(), quantity);
+    }
+
+    private int quantity(Storage storage) {
+        return jdbcTemplate.queryForObject("SELECT quantity FROM keeping WHERE storage_id = ? AND item_id = ?",
+                Integer.class, storage.getId(), item.getId());
+    }
+}
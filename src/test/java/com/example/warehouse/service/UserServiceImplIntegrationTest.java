@@ -1,5 +1,6 @@
 package com.example.warehouse.service;
 
+import com.example.warehouse.api.KeysetCursor;
 import com.example.warehouse.entity.User;
 import com.example.warehouse.enumeration.RoleType;
 import com.example.warehouse.exception.UserAlreadyExistsException;
@@ -9,6 +10,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Window;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
 import org.springframework.test.context.jdbc.Sql;
@@ -214,100 +216,99 @@ class UserServiceImplIntegrationTest {
     }
 
     @Test
-    void getAllUsers_ShouldReturnAllUsers() {
-        List<User> result = userService.getAllUsers();
+    void scroll_ShouldReturnAllUsersInIdOrder_WhenNoFilters() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, null, null, null, null, null);
 
-        assertNotNull(result);
-        assertEquals(4, result.size());
-
-        assertTrue(result.stream().anyMatch(user -> user.getEmail().equals("john.doe@example.com")));
-        assertTrue(result.stream().anyMatch(user -> user.getEmail().equals("jane.smith@example.com")));
-        assertTrue(result.stream().anyMatch(user -> user.getEmail().equals("bob.johnson@example.com")));
-        assertTrue(result.stream().anyMatch(user -> user.getEmail().equals("alice.williams@example.com")));
+        assertEquals(List.of(testUser1.getId(), testUser2.getId(), testUser3.getId(), testUser4.getId()), ids(result));
+        assertFalse(result.hasNext());
     }
 
     @Test
-    void getAllUsers_ShouldReturnEmptyList_WhenNoUsers() {
+    void scroll_ShouldReturnEmptyWindow_WhenNoUsers() {
         userRepository.deleteAll();
 
-        List<User> result = userService.getAllUsers();
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, null, null, null, null, null);
 
-        assertNotNull(result);
         assertTrue(result.isEmpty());
+        assertFalse(result.hasNext());
     }
 
     @Test
-    void getUsersByRole_ShouldReturnUsers_WhenRoleExists() {
-        List<User> result = userService.getUsersByRole(RoleType.STUDENT);
+    void scroll_ShouldContinueFromCursor() {
+        Window<User> first = userService.scroll(KeysetCursor.decode(null), 3, null, null, null, null, null);
+        assertEquals(3, first.size());
+        assertTrue(first.hasNext());
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.stream().allMatch(user -> user.getRole() == RoleType.STUDENT));
+        String cursor = KeysetCursor.encode(first.positionAt(first.size() - 1));
+        Window<User> second = userService.scroll(KeysetCursor.decode(cursor), 3, null, null, null, null, null);
 
-        assertTrue(result.stream().anyMatch(user -> user.getEmail().equals("jane.smith@example.com")));
-        assertTrue(result.stream().anyMatch(user -> user.getEmail().equals("alice.williams@example.com")));
+        assertEquals(List.of(testUser4.getId()), ids(second));
+        assertFalse(second.hasNext());
     }
 
     @Test
-    void getUsersByRole_ShouldReturnEmptyList_WhenNoUsersWithRole() {
-        List<User> result = userService.getUsersByRole(RoleType.MANAGER);
+    void scroll_ShouldFilterByRole() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, RoleType.STUDENT, null, null, null, null);
+
+        assertEquals(List.of(testUser2.getId(), testUser4.getId()), ids(result));
+    }
+
+    @Test
+    void scroll_ShouldReturnEmptyWindow_WhenNoUsersWithRole() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, RoleType.MANAGER, null, null, null, null);
 
-        assertNotNull(result);
         assertTrue(result.isEmpty());
     }
 
     @Test
-    void searchUsersByLastName_ShouldReturnUsers_WhenLastNameMatches() {
-        List<User> result = userService.searchUsersByLastName("smith");
+    void scroll_ShouldFilterByEmailPrefix_IgnoringCase() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, null, "JANE.", null, null, null);
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Jane", result.get(0).getFirstName());
-        assertEquals("Smith", result.get(0).getLastName());
+        assertEquals(List.of(testUser2.getId()), ids(result));
     }
 
     @Test
-    void searchUsersByLastName_ShouldReturnUsers_WhenCaseInsensitive() {
-        List<User> result = userService.searchUsersByLastName("SMITH");
+    void scroll_ShouldNotMatchEmailInTheMiddle() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, null, "smith", null, null, null);
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Smith", result.get(0).getLastName());
+        assertTrue(result.isEmpty());
     }
 
     @Test
-    void searchUsersByLastName_ShouldReturnUsers_WhenPartialMatch() {
-        List<User> result = userService.searchUsersByLastName("son");
+    void scroll_ShouldFilterByLastName_CaseInsensitive() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, null, null, "SMITH", null, null);
 
-        assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals("Johnson", result.get(0).getLastName());
+        assertEquals(List.of(testUser2.getId()), ids(result));
     }
 
     @Test
-    void searchUsersByLastName_ShouldReturnMultipleUsers_WhenMultipleMatches() {
-        User anotherSmith = User.builder()
+    void scroll_ShouldFilterByLastName_WhenPartialMatch() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, null, null, "son", null, null);
+
+        assertEquals(List.of(testUser3.getId()), ids(result));
+    }
+
+    @Test
+    void scroll_ShouldCombineFilters() {
+        User anotherSmith = userRepository.save(User.builder()
                 .firstName("Tom")
                 .lastName("Smith")
                 .email("tom.smith@example.com")
-                .role(RoleType.STUDENT)
+                .role(RoleType.DRIVER)
                 .createdAt(LocalDateTime.now())
-                .build();
-        userRepository.save(anotherSmith);
+                .build());
 
-        List<User> result = userService.searchUsersByLastName("Smith");
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, RoleType.DRIVER, null, "Smith", null, null);
 
-        assertNotNull(result);
-        assertEquals(2, result.size());
-        assertTrue(result.stream().allMatch(user -> user.getLastName().equals("Smith")));
+        assertEquals(List.of(anotherSmith.getId()), ids(result));
     }
 
     @Test
-    void searchUsersByLastName_ShouldReturnEmptyList_WhenNoMatches() {
-        List<User> result = userService.searchUsersByLastName("Nonexistent");
+    void scroll_ShouldFilterByCreatedRange() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, null, null, null,
+                LocalDateTime.now().minusDays(4), LocalDateTime.now().minusDays(2));
 
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
+        assertEquals(List.of(testUser2.getId()), ids(result));
     }
 
     @Test
@@ -476,27 +477,20 @@ class UserServiceImplIntegrationTest {
     }
 
     @Test
-    void getUsersCreatedBetween_ShouldReturnEmptyList_WhenNoUsersInDateRange() {
-        LocalDateTime start = LocalDateTime.now().plusDays(1);
-        LocalDateTime end = LocalDateTime.now().plusDays(2);
+    void scroll_ShouldReturnEmptyWindow_WhenNoUsersInDateRange() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, null, null, null,
+                LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2));
 
-        List<User> result = userService.getUsersCreatedBetween(start, end);
-
-        assertNotNull(result);
         assertTrue(result.isEmpty());
     }
 
     @Test
-    void countUsersByRole_ShouldReturnCorrectCount() {
-        long adminCount = userService.countUsersByRole(RoleType.ADMIN);
-        long userCount = userService.countUsersByRole(RoleType.STUDENT);
-        long driverCount = userService.countUsersByRole(RoleType.DRIVER);
-        long managerCount = userService.countUsersByRole(RoleType.MANAGER);
-
-        assertEquals(1, adminCount);
-        assertEquals(2, userCount);
-        assertEquals(1, driverCount);
-        assertEquals(0, managerCount);
+    void count_ShouldCountUsersByRole() {
+        assertEquals(1, userService.count(RoleType.ADMIN, null, null, null, null));
+        assertEquals(2, userService.count(RoleType.STUDENT, null, null, null, null));
+        assertEquals(1, userService.count(RoleType.DRIVER, null, null, null, null));
+        assertEquals(0, userService.count(RoleType.MANAGER, null, null, null, null));
+        assertEquals(4, userService.count(null, null, null, null, null));
     }
 
 
@@ -521,23 +515,12 @@ class UserServiceImplIntegrationTest {
     }
 
     @Test
-    void searchUsersByLastName_ShouldHandleEmptyString() {
-        List<User> result = userService.searchUsersByLastName("");
+    void scroll_ShouldIgnoreBlankFilters() {
+        Window<User> result = userService.scroll(KeysetCursor.decode(null), 10, null, "", " ", null, null);
 
-        assertNotNull(result);
         assertEquals(4, result.size());
     }
 
-    @Test
-    void getUsersCreatedBetween_ShouldHandleSameStartAndEnd() {
-        LocalDateTime sameTime = LocalDateTime.now().minusDays(2);
-
-        List<User> result = userService.getUsersCreatedBetween(sameTime, sameTime);
-
-        assertNotNull(result);
-        assertTrue(result.isEmpty());
-    }
-
     @Test
     void updateUser_ShouldPreserveCreatedAt() {
         LocalDateTime originalCreatedAt = testUser1.getCreatedAt();
@@ -562,13 +545,14 @@ class UserServiceImplIntegrationTest {
     }
 
     @Test
-    void getAllUsers_ShouldReturnUsersInConsistentOrder() {
-        List<User> result1 = userService.getAllUsers();
-        List<User> result2 = userService.getAllUsers();
+    void scroll_ShouldReturnUsersInConsistentOrder() {
+        List<Long> result1 = ids(userService.scroll(KeysetCursor.decode(null), 10, null, null, null, null, null));
+        List<Long> result2 = ids(userService.scroll(KeysetCursor.decode(null), 10, null, null, null, null, null));
+
+        assertEquals(result1, result2);
+    }
 
-        assertEquals(result1.size(), result2.size());
-        for (int i = 0; i < result1.size(); i++) {
-            assertEquals(result1.get(i).getId(), result2.get(i).getId());
-        }
+    private static List<Long> ids(Window<User> window) {
+        return window.stream().map(User::getId).toList();
     }
-}
\ No newline at end of file
+}
@@ -16,13 +16,21 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
 import org.springframework.test.context.DynamicPropertyRegistry;
 import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.testcontainers.containers.PostgreSQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.doAnswer;
 
 @Testcontainers
 @SpringBootTest
@@ -45,7 +53,7 @@ class UserStorageAccessServiceImplIntegrationTest {
     @Autowired
     private UserStorageAccessServiceImpl userStorageAccessService;
 
-    @Autowired
+    @MockitoSpyBean
     private UserStorageAccessRepository userStorageAccessRepository;
 
     @Autowired
@@ -54,6 +62,9 @@ class UserStorageAccessServiceImplIntegrationTest {
     @Autowired
     private StorageRepository storageRepository;
 
+    @Autowired
+    private AccessDecisionCache accessDecisionCache;
+
     private User testUser;
     private User nonExistentUser;
     private User testAdmin;
@@ -64,6 +75,8 @@ class UserStorageAccessServiceImplIntegrationTest {
 
     @BeforeEach
     void setUp() {
+        accessDecisionCache.clear();
+
         testUser = User.builder()
                 .firstName("John")
                 .secondName("Michael")
@@ -484,6 +497,74 @@ class UserStorageAccessServiceImplIntegrationTest {
         assertFalse(result);
     }
 
+    @Test
+    void hasAccess_ShouldServeRepeatedChecksFromCache() {
+        long hitsBefore = accessDecisionCache.hits();
+        long missesBefore = accessDecisionCache.misses();
+
+        assertTrue(userStorageAccessService.hasAccess(testUser.getId(), testStorage.getId(), AccessLevel.BASIC));
+        assertTrue(userStorageAccessService.hasAccess(testUser.getId(), testStorage.getId(), AccessLevel.BASIC));
+        assertFalse(userStorageAccessService.hasAccess(testUser.getId(), testStorage.getId(), AccessLevel.ADMIN));
+
+        assertEquals(missesBefore + 1, accessDecisionCache.misses());
+        assertEquals(hitsBefore + 2, accessDecisionCache.hits());
+    }
+
+    @Test
+    void hasAccess_ShouldReturnFalse_WhenDeactivatedAfterCachedCheck() {
+        assertTrue(userStorageAccessService.hasAccess(testUser.getId(), testStorage.getId(), AccessLevel.BASIC));
+
+        userStorageAccessService.deactivate(testAccess.getId());
+
+        assertFalse(userStorageAccessService.hasAccess(testUser.getId(), testStorage.getId(), AccessLevel.BASIC));
+    }
+
+    @Test
+    void hasAccess_ShouldNotCacheDecision_WhenDeactivatedWhileCheckInFlight() throws Exception {
+        CountDownLatch rowRead = new CountDownLatch(1);
+        CountDownLatch deactivated = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            Object row = invocation.callRealMethod();
+            rowRead.countDown();
+            assertTrue(deactivated.await(10, TimeUnit.SECONDS));
+            return row;
+        }).when(userStorageAccessRepository).findByUserIdAndStorageId(testUser.getId(), testStorage.getId());
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<Boolean> inFlight = executor.submit(() ->
+                    userStorageAccessService.hasAccess(testUser.getId(), testStorage.getId(), AccessLevel.BASIC));
+            assertTrue(rowRead.await(10, TimeUnit.SECONDS));
+
+            userStorageAccessService.deactivate(testAccess.getId());
+            deactivated.countDown();
+
+            // The in-flight check answers from the row it read before the write...
+            assertTrue(inFlight.get(10, TimeUnit.SECONDS));
+        } finally {
+            executor.shutdown();
+        }
+
+        // ...but must not leave that decision cached behind the eviction.
+        assertFalse(userStorageAccessService.hasAccess(testUser.getId(), testStorage.getId(), AccessLevel.BASIC));
+    }
+
+    @Test
+    void hasAccess_ShouldReturnTrue_WhenCreatedAfterCachedDenial() {
+        assertFalse(userStorageAccessService.hasAccess(testUser.getId(), testStorage2.getId(), AccessLevel.BASIC));
+
+        userStorageAccessService.create(UserStorageAccess.builder()
+                .user(testUser)
+                .storage(testStorage2)
+                .grantedBy(testAdmin)
+                .accessLevel(AccessLevel.BASIC)
+                .expiresAt(LocalDateTime.now().plusDays(30))
+                .isActive(true)
+                .build());
+
+        assertTrue(userStorageAccessService.hasAccess(testUser.getId(), testStorage2.getId(), AccessLevel.BASIC));
+    }
+
     @Test
     void deactivate_ShouldDeactivateAccess() {
         UserStorageAccess result = userStorageAccessService.deactivate(testAccess.getId());
@@ -548,6 +629,37 @@ class UserStorageAccessServiceImplIntegrationTest {
         assertFalse(updatedAccess.getIsActive());
     }
 
+    @Test
+    void deactivateExpiredAccesses_ShouldReturnCountAndSkipInactiveRows() {
+        testAccess.setExpiresAt(LocalDateTime.now().minusDays(1));
+        userStorageAccessRepository.save(testAccess);
+        userStorageAccessRepository.save(UserStorageAccess.builder()
+                .user(testUser)
+                .storage(testStorage2)
+                .grantedBy(testAdmin)
+                .accessLevel(AccessLevel.BASIC)
+                .expiresAt(LocalDateTime.now().minusDays(2))
+                .isActive(false)
+                .build());
+
+        assertEquals(1, userStorageAccessService.deactivateExpiredAccesses());
+        assertEquals(0, userStorageAccessService.deactivateExpiredAccesses());
+    }
+
+    @Test
+    void deactivateExpiredAccesses_ShouldEvictCachedDecisions() {
+        assertTrue(userStorageAccessService.hasAccess(testUser.getId(), testStorage.getId(), AccessLevel.BASIC));
+
+        userStorageAccessRepository.findById(testAccess.getId()).ifPresent(access -> {
+            access.setExpiresAt(LocalDateTime.now().minusMinutes(1));
+            userStorageAccessRepository.save(access);
+        });
+
+        userStorageAccessService.deactivateExpiredAccesses();
+
+        assertFalse(userStorageAccessService.hasAccess(testUser.getId(), testStorage.getId(), AccessLevel.BASIC));
+    }
+
     @Test
     void countActiveAccessesByUser_ShouldReturnCorrectCount() {
         long count = userStorageAccessService.countActiveAccessesByUser(testUser.getId());
@@ -576,4 +688,16 @@ class UserStorageAccessServiceImplIntegrationTest {
         Page<UserStorageAccess> result4 = userStorageAccessService.findPage(0, 10, null, null, null, null);
         assertNotNull(result4);
     }
-}
\ No newline at end of file
+
+    @Test
+    void validateJobSettings_ShouldRejectNonPositiveBatchSizeAndNegativeMaxRows() {
+        UserStorageAccessServiceImpl service = new UserStorageAccessServiceImpl(null, null, null, null, null, null, null);
+        ReflectionTestUtils.setField(service, "expiredAccessBatchSize", 0);
+        ReflectionTestUtils.setField(service, "expiredAccessMaxRows", 100);
+        assertThrows(IllegalStateException.class, service::validateJobSettings);
+
+        ReflectionTestUtils.setField(service, "expiredAccessBatchSize", 1);
+        ReflectionTestUtils.setField(service, "expiredAccessMaxRows", -1);
+        assertThrows(IllegalStateException.class, service::validateJobSettings);
+    }
+}
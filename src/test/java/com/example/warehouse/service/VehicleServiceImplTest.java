@@ -2,6 +2,7 @@ package com.example.warehouse.service;
 
 import com.example.warehouse.entity.Vehicle;
 import com.example.warehouse.enumeration.VehicleStatus;
+import com.example.warehouse.exception.DuplicateLicensePlateException;
 import com.example.warehouse.repository.VehicleRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -107,7 +108,7 @@ class VehicleServiceImplIntegrationTest {
                 VehicleStatus.AVAILABLE
         );
 
-        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+        DuplicateLicensePlateException exception = assertThrows(DuplicateLicensePlateException.class,
                 () -> vehicleService.create(duplicateVehicle));
         assertTrue(exception.getMessage().contains("already exists"));
     }
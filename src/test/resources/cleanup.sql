@@ -8,5 +8,10 @@ TRUNCATE TABLE
     transportations,
     keeping,
     item_maintenance,
-    user_storage_access
+    user_storage_access,
+    job_runs,
+    job_leases,
+    stock_movements,
+    inventory_snapshots,
+    inventory_snapshot_lines
 RESTART IDENTITY CASCADE;
\ No newline at end of file